@@ -0,0 +1,75 @@
+package sorting;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * ƽ㷨JMH׼
+ * 
+ * SortingBenchmarkֻͬǹģ10^4Ϊֹðݡѡ񡢲Լ
+ * ˻ΪO(n^2)quickSort(HOLE)
+ * 
+ * зʽjava -cp target/benchmarks.jar sorting.QuadraticSortBenchmark [JMH]
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuadraticSortBenchmark {
+	
+	@Param({"bubbleSort1", "bubbleSort2", "cocktailSort", "selectSort", "doubleSelectSort",
+			"insertSort", "binaryInsertSort", "quickSort"})
+	public String algorithm;
+	
+	@Param({"10", "100", "1000", "10000"})
+	public int size;
+	
+	@Param({"RANDOM", "SORTED", "REVERSED", "SAWTOOTH", "FEW_UNIQUE", "ORGAN_PIPE"})
+	public String distribution;
+	
+	private SortBenchmark.IntSorter sorter;
+	private int[] src;
+	private int[] work;
+	
+	@Setup(Level.Trial)
+	public void setUp(){
+		sorter = SortBenchmark.sorter(algorithm);
+		src = SortBenchmark.Distribution.valueOf(distribution).generate(size, 42);
+		work = new int[size];
+	}
+	
+	@Benchmark
+	public int[] sort(){
+		System.arraycopy(src, 0, work, 0, size);
+		sorter.sort(work);
+		return work;
+	}
+	
+	public static void main(String[] args) throws Exception{
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.include(QuadraticSortBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		SortingBenchmark.report(new Runner(options).run());
+	}
+}
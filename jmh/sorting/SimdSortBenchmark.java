@@ -0,0 +1,83 @@
+package sorting;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * QuickSort.simdSort()ıںں˵ĶԱ
+ * 
+ * IntKernels.INSTANCEʱȷˣͬһJVMֻܲһ֣ں
+ * ֱڲͬforkУscalar()ʹĬϵScalarIntKernelsvector()JVM
+ * --add-modules jdk.incubator.vector-Dsorting.vector=trueʹVectorIntKernels
+ * ں˼ʧܣCPU֧256λʱvector()ֱӱĵ
+ * ɱںˡ
+ * 
+ * зʽjava -cp target/benchmarks.jar sorting.SimdSortBenchmark [JMH]
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SimdSortBenchmark {
+	
+	@Param({"10", "100", "1000", "10000", "100000", "1000000", "10000000", "100000000"})
+	public int size;
+	
+	@Param({"RANDOM", "SORTED", "REVERSED", "SAWTOOTH", "FEW_UNIQUE", "ORGAN_PIPE"})
+	public String distribution;
+	
+	private int[] src;
+	private int[] work;
+	
+	@Setup(Level.Trial)
+	public void setUp(){
+		if(IntKernels.INSTANCE.isVectorized() != Boolean.getBoolean("sorting.vector"))
+			throw new IllegalStateException("sorting.vector=" + Boolean.getBoolean("sorting.vector")
+					+ " but kernels are " + (IntKernels.INSTANCE.isVectorized() ? "vector" : "scalar"));
+		src = SortBenchmark.Distribution.valueOf(distribution).generate(size, 42);
+		work = new int[size];
+	}
+	
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+	public int[] scalar(){
+		System.arraycopy(src, 0, work, 0, size);
+		QuickSort.simdSort(work);
+		return work;
+	}
+	
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "--add-modules", "jdk.incubator.vector", "-Dsorting.vector=true"})
+	public int[] vector(){
+		System.arraycopy(src, 0, work, 0, size);
+		QuickSort.simdSort(work);
+		return work;
+	}
+	
+	public static void main(String[] args) throws Exception{
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.include(SimdSortBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		SortingBenchmark.report(new Runner(options).run());
+	}
+}
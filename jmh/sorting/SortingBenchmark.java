@@ -0,0 +1,121 @@
+package sorting;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * O(n*log(n))ʱ㷨JMH׼
+ * 
+ * ÿ㷨1010^8ĸֹģSortBenchmark.Distributionĸֲַϲԣ
+ * ƽ㷨ģ10^4ΪֹQuadraticSortBenchmark
+ * simdSort()ıں˺ںҪڲͬJVMвԣSimdSortBenchmark
+ * 
+ * ÿεȰԭʼݿ򣬿ʱڣԼ0.1ns/element
+ * ԺԣTrialʼʱã
+ * 
+ * зʽ
+ * mvn -B -Pjmh package
+ * java -cp target/benchmarks.jar sorting.SortingBenchmark [JMH]
+ * ֻһ㷨һֹģ
+ * java -cp target/benchmarks.jar sorting.SortingBenchmark -p algorithm=introSort -p size=1000000
+ * 
+ * main()Ǽ-prof gcJMHĽns/elementB/elementͷ(MB/s)
+ * Ҳֱjava -jar target/benchmarks.jar -prof gcУõJMHԭʼ
+ * ns/opgc.alloc.rate.norm(B/op)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class SortingBenchmark {
+	
+	@Param({"Arrays.sort", "shellSort", "shellSort2", "shellSort(CIURA)",
+			"threeWayQuickSort", "dualPivotQuickSort", "introSort", "parallelQuickSort",
+			"mergeSortUp2Down", "mergeSortDown2Up", "mergeSort", "parallelMergeSort", "naturalMergeSort",
+			"radixSort", "parallelRadixSort", "bucketSort", "multiBucketSort", "adaptiveSort"})
+	public String algorithm;
+	
+	@Param({"10", "100", "1000", "10000", "100000", "1000000", "10000000", "100000000"})
+	public int size;
+	
+	@Param({"RANDOM", "SORTED", "REVERSED", "SAWTOOTH", "FEW_UNIQUE", "ORGAN_PIPE"})
+	public String distribution;
+	
+	private SortBenchmark.IntSorter sorter;
+	private int[] src;		//ԭʼ
+	private int[] work;		//ÿε
+	
+	@Setup(Level.Trial)
+	public void setUp(){
+		sorter = SortBenchmark.sorter(algorithm);
+		src = SortBenchmark.Distribution.valueOf(distribution).generate(size, 42);
+		work = new int[size];
+	}
+	
+	@Benchmark
+	public int[] sort(){
+		System.arraycopy(src, 0, work, 0, size);
+		sorter.sort(work);
+		return work;
+	}
+	
+	public static void main(String[] args) throws Exception{
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.include(SortingBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		report(new Runner(options).run());
+	}
+	
+	/**
+	 * JMHĽ(ns/opB/op)鳤ȣÿһ
+	 */
+	static void report(Collection<RunResult> results){
+		System.out.printf("%-20s %-11s %10s %10s %10s %10s%n", "algorithm", "input", "n", "ns/elem", "B/elem", "MB/s");
+		for(RunResult rr : results){
+			String algorithm = rr.getParams().getParam("algorithm");
+			if(algorithm == null){
+				//SimdSortBenchmarkûalgorithm÷
+				String benchmark = rr.getParams().getBenchmark();
+				algorithm = "simdSort(" + benchmark.substring(benchmark.lastIndexOf('.') + 1) + ")";
+			}
+			String distribution = rr.getParams().getParam("distribution");
+			int n = Integer.parseInt(rr.getParams().getParam("size"));
+			
+			double bytesPerOp = Double.NaN;
+			double allocRate = Double.NaN;
+			for(Map.Entry<String, Result> e : rr.getSecondaryResults().entrySet()){
+				if(e.getKey().endsWith("gc.alloc.rate.norm"))
+					bytesPerOp = e.getValue().getScore();
+				else if(e.getKey().endsWith("gc.alloc.rate"))
+					allocRate = e.getValue().getScore();
+			}
+			System.out.printf("%-20s %-11s %10d %10.2f %10.2f %10.1f%n", algorithm, distribution, n,
+					rr.getPrimaryResult().getScore() / n, bytesPerOp / n, allocRate);
+		}
+	}
+}
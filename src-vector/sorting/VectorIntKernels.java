@@ -0,0 +1,175 @@
+package sorting;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * IntKernelsSIMDʵ֣Vector API256λÿ8int
+ * 
+ * 1Сģ˫(bitonic sort)ĴÿһȽϽ
+ * 		ǡ + min + max + ϡ8ԪͬʱУ16Ԫʱȷֱ
+ * 		źѵڶתһ˫Уٺϲ
+ * 2֣ÿȡ8Ԫ׼ֵȽϵõһ8λ룬õŷʽ
+ * 		Сڻ׼ֵԪؼǰдaļǰдbuf
+ * 		дֱָǰӦĸûݵķ֧
+ * 
+ * ʱҪ--add-modules jdk.incubator.vector˷ڵsrc-vector
+ * Ŀ¼УֻͨIntKernels.INSTANCEʹãҪָ-Dsorting.vector=true
+ */
+class VectorIntKernels implements IntKernels {
+	
+	private static final VectorSpecies<Integer> S = IntVector.SPECIES_256;
+	private static final int LANES = 8;
+	
+	/**
+	 * PACK[m]mбѡеԪذԭ˳򼷵ǰԪظں
+	 */
+	private static final VectorShuffle<Integer>[] PACK = buildPack();
+	
+	/**
+	 * ˫ÿһSTEP_SHUFFLE[s]ָԪرȽϣ
+	 * STEP_MAX[s]ѡеԪȡϴֵȡСֵ
+	 * ǰ68Ԫų3MERGE_FROM֮󣩰˫кϲ
+	 */
+	private static final VectorShuffle<Integer>[] STEP_SHUFFLE;
+	private static final VectorMask<Integer>[] STEP_MAX;
+	private static final int MERGE_FROM = 3;
+	
+	private static final VectorShuffle<Integer> REVERSE = VectorShuffle.fromValues(S, 7, 6, 5, 4, 3, 2, 1, 0);
+	
+	static {
+		int[][] steps = {{2, 1}, {4, 2}, {4, 1}, {8, 4}, {8, 2}, {8, 1}};		//(k, j)
+		VectorShuffle<Integer>[] shuffles = newShuffles(steps.length);
+		VectorMask<Integer>[] masks = newMasks(steps.length);
+		
+		for(int s = 0; s < steps.length; s++){
+			int k = steps[s][0], j = steps[s][1];
+			int[] partner = new int[LANES];
+			boolean[] takesMax = new boolean[LANES];
+			for(int i = 0; i < LANES; i++){
+				partner[i] = i ^ j;
+				//Ŀ±ϴһȡϴֵĿ෴
+				takesMax[i] = ((i & j) != 0) != ((i & k) != 0);
+			}
+			shuffles[s] = VectorShuffle.fromArray(S, partner, 0);
+			masks[s] = VectorMask.fromArray(S, takesMax, 0);
+		}
+		STEP_SHUFFLE = shuffles;
+		STEP_MAX = masks;
+	}
+	
+	VectorIntKernels(){
+		if(IntVector.SPECIES_PREFERRED.vectorBitSize() < S.vectorBitSize())
+			throw new UnsupportedOperationException("256-bit vectors are not supported");
+	}
+	
+	/*
+	 * ֱӴ飬ֻܴԭʼ͵ת
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static VectorShuffle<Integer>[] newShuffles(int n){
+		return new VectorShuffle[n];
+	}
+	
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static VectorMask<Integer>[] newMasks(int n){
+		return new VectorMask[n];
+	}
+	
+	private static VectorShuffle<Integer>[] buildPack(){
+		VectorShuffle<Integer>[] pack = newShuffles(1 << LANES);
+		int[] index = new int[LANES];
+		for(int m = 0; m < pack.length; m++){
+			int k = 0;
+			for(int i = 0; i < LANES; i++){
+				if((m & (1 << i)) != 0)
+					index[k++] = i;
+			}
+			for(int i = 0; i < LANES; i++){
+				if((m & (1 << i)) == 0)
+					index[k++] = i;
+			}
+			pack[m] = VectorShuffle.fromArray(S, index, 0);
+		}
+		return pack;
+	}
+	
+	@Override
+	public boolean isVectorized(){
+		return true;
+	}
+	
+	/**
+	 * ˫ĵfromto-1
+	 */
+	private static IntVector network(IntVector v, int from, int to){
+		for(int s = from; s < to; s++){
+			IntVector p = v.rearrange(STEP_SHUFFLE[s]);
+			v = v.min(p).blend(v.max(p), STEP_MAX[s]);
+		}
+		return v;
+	}
+	
+	@Override
+	public void sortSmall(int[] a, int left, int right){
+		int n = right - left + 1;
+		if(n < 2)
+			return;
+		if(n > 2 * LANES){
+			StraightInsertionSort.smallSort(a, left, right);
+			return;
+		}
+		
+		//8ĲInteger.MAX_VALUE룬Ƕĩβᱻд
+		IntVector max = IntVector.broadcast(S, Integer.MAX_VALUE);
+		if(n <= LANES){
+			VectorMask<Integer> m = S.indexInRange(left, right + 1);
+			IntVector v = max.blend(IntVector.fromArray(S, a, left, m), m);
+			network(v, 0, STEP_SHUFFLE.length).intoArray(a, left, m);
+			return;
+		}
+		
+		VectorMask<Integer> m = S.indexInRange(left + LANES, right + 1);
+		IntVector v0 = network(IntVector.fromArray(S, a, left), 0, STEP_SHUFFLE.length);
+		IntVector v1 = network(max.blend(IntVector.fromArray(S, a, left + LANES, m), m), 0, STEP_SHUFFLE.length);
+		
+		//v0v1ת򣬺˫УӦλȡminmax
+		//loеÿԪضhiеģָ˫
+		IntVector r1 = v1.rearrange(REVERSE);
+		IntVector lo = network(v0.min(r1), MERGE_FROM, STEP_SHUFFLE.length);
+		IntVector hi = network(v0.max(r1), MERGE_FROM, STEP_SHUFFLE.length);
+		lo.intoArray(a, left);
+		hi.intoArray(a, left + LANES, m);
+	}
+	
+	@Override
+	public int partition(int[] a, int left, int right, int pivot, int[] buf){
+		int n = right - left + 1;
+		int upper = left + S.loopBound(n);
+		int l = left, r = 0, i = left;
+		IntVector p = IntVector.broadcast(S, pivot);
+		
+		//дaλliд8λöѾˣbufPADDINGд벻Խ
+		for(; i < upper; i += LANES){
+			IntVector v = IntVector.fromArray(S, a, i);
+			int bits = (int) v.lt(p).toLong();
+			int less = Integer.bitCount(bits);
+			v.rearrange(PACK[bits]).intoArray(a, l);
+			v.rearrange(PACK[~bits & 0xFF]).intoArray(buf, r);
+			l += less;
+			r += LANES - less;
+		}
+		
+		for(; i <= right; i++){
+			int x = a[i];
+			if(x < pivot)
+				a[l++] = x;
+			else
+				buf[r++] = x;
+		}
+		System.arraycopy(buf, 0, a, l, r);
+		return l;
+	}
+}
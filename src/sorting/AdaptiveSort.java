@@ -0,0 +1,237 @@
+package sorting;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Ӧȶһκܱ˵ĳٸݵصѡ㷨
+ * 
+ * еĸ㷨óݣѡ˴ۺܴѾ
+ * 򣬶ȡֵΧܴ򣩣ӦеȾسȡ
+ * SAMPLE_SIZEλãͳƣ
+ * 1̶ȣÿλһԪرȽϣõ½ı
+ * 2ȡֵΧԪصСֵֵ
+ * 3ظ̶ȣѳԪֵͬĸõظԪصı
+ * ȻĴѡ
+ * 1̣ܶʡվСģ򣩣
+ * 2û½򣩻߼ȫ½򣩣Ȼ鲢
+ * 		ӽO(N)
+ * 3ȡֵΧ鳤ȵ2BucketSort.bucketSort()
+ * 		͹˷ΧʱԶû򣩣
+ * 4ϳظԪغࣺܶO(N)ظ޹أ
+ * 5ʡ
+ * 
+ * ֻO(SAMPLE_SIZE)ԪأȿԺԣ
+ * ÿεѡͳͳƻύͨsetMetrics()õMetricsº
+ */
+public class AdaptiveSort {
+	
+	/**
+	 * ѡ򷽷
+	 */
+	public enum Strategy {
+		/** BucketSort.bucketSort */
+		COUNTING,
+		/** RadixSort.radixSort */
+		RADIX,
+		/** Ȼ鲢MergeSort.naturalMergeSort */
+		NATURAL_MERGE,
+		/** ʡQuickSort.introSort */
+		INTRO
+	}
+	
+	/**
+	 * ͳƵĽ
+	 */
+	public static final class Profile {
+		public final int length;				//ĳ
+		public final int sampleSize;			//ĸ
+		public final double descentRatio;		//λa[i] > a[i+1]ı
+		public final int sampleMin;				//ԪصСֵ
+		public final int sampleMax;				//Ԫصֵ
+		public final double duplicateRatio;		//ԪظԪصı
+		
+		Profile(int length, int sampleSize, double descentRatio, int sampleMin, int sampleMax, double duplicateRatio){
+			this.length = length;
+			this.sampleSize = sampleSize;
+			this.descentRatio = descentRatio;
+			this.sampleMin = sampleMin;
+			this.sampleMax = sampleMax;
+			this.duplicateRatio = duplicateRatio;
+		}
+		
+		@Override
+		public String toString(){
+			return "Profile[length=" + length + ", sampleSize=" + sampleSize
+					+ ", descentRatio=" + descentRatio + ", sampleRange=[" + sampleMin + ", " + sampleMax
+					+ "], duplicateRatio=" + duplicateRatio + "]";
+		}
+	}
+	
+	/**
+	 * ¼ÿѡĽ
+	 */
+	public interface Metrics {
+		void record(Strategy strategy, Profile profile);
+	}
+	
+	/**
+	 * ͳÿַѡдMetricsԱ߳ͬʱʹ
+	 */
+	public static final class StrategyCounter implements Metrics {
+		
+		private final AtomicLongArray counts = new AtomicLongArray(Strategy.values().length);
+		
+		@Override
+		public void record(Strategy strategy, Profile profile){
+			counts.incrementAndGet(strategy.ordinal());
+		}
+		
+		public long count(Strategy strategy){
+			return counts.get(strategy.ordinal());
+		}
+		
+		@Override
+		public String toString(){
+			StringBuilder sb = new StringBuilder("{");
+			for(Strategy s : Strategy.values()){
+				if(sb.length() > 1)
+					sb.append(", ");
+				sb.append(s).append('=').append(count(s));
+			}
+			return sb.append('}').toString();
+		}
+	}
+	
+	private static final int SAMPLE_SIZE = 256;				//ĸ
+	private static final int SMALL_THRESHOLD = 64;			//óʱֱʹʡ
+	private static final int RADIX_THRESHOLD = 1 << 12;		//óʱʹû
+	private static final double SORTED_RATIO = 0.01;		//½ıֵʱΪ
+	private static final double DUPLICATE_RATIO = 0.75;		//ظԪصıֵʱΪظܶ
+	
+	private static volatile Metrics metrics;
+	
+	/**
+	 * ü¼ѡMetricsΪnullʱ¼
+	 */
+	public static void setMetrics(Metrics m){
+		metrics = m;
+	}
+	
+	/**
+	 * Ӧ
+	 * 
+	 * @param a		
+	 * @return		ѡ򷽷
+	 * @throws IllegalArgumentException	aΪnull
+	 */
+	public static Strategy sort(int[] a){
+		if(a == null)
+			throw new IllegalArgumentException("array is null");
+		Profile profile = profile(a);
+		Strategy strategy = choose(profile);
+		
+		switch(strategy){
+		case COUNTING:
+			BucketSort.bucketSort(a);
+			break;
+		case RADIX:
+			RadixSort.radixSort(a);
+			break;
+		case NATURAL_MERGE:
+			MergeSort.naturalMergeSort(a);
+			break;
+		default:
+			QuickSort.introSort(a);
+			break;
+		}
+		
+		Metrics m = metrics;
+		if(m != null)
+			m.record(strategy, profile);
+		return strategy;
+	}
+	
+	/**
+	 * aȾͳ̶ȡȡֵΧظ̶
+	 */
+	static Profile profile(int[] a){
+		int n = a.length;
+		if(n < 2)
+			return new Profile(n, n, 0, n == 0 ? 0 : a[0], n == 0 ? 0 : a[0], 0);
+		
+		int s = Math.min(SAMPLE_SIZE, n - 1);		//ÿλiҪa[i+1]Ƚ
+		int[] sample = new int[s];
+		int descents = 0;
+		int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+		
+		for(int k = 0; k < s; k++){
+			int i = (int) ((long) k * (n - 2) / Math.max(1, s - 1));
+			int x = a[i];
+			sample[k] = x;
+			if(x > a[i+1])
+				descents++;
+			if(x < min)
+				min = x;
+			if(x > max)
+				max = x;
+		}
+		
+		//źǰһȵľظ
+		QuickSort.introSort(sample);
+		int duplicates = 0;
+		for(int k = 1; k < s; k++){
+			if(sample[k] == sample[k-1])
+				duplicates++;
+		}
+		
+		return new Profile(n, s, (double) descents / s, min, max, (double) duplicates / s);
+	}
+	
+	/**
+	 * ݳͳѡ򷽷
+	 */
+	static Strategy choose(Profile p){
+		if(p.length <= SMALL_THRESHOLD)
+			return Strategy.INTRO;
+		if(p.descentRatio <= SORTED_RATIO || p.descentRatio >= 1 - SORTED_RATIO)
+			return Strategy.NATURAL_MERGE;
+		if((long) p.sampleMax - p.sampleMin < 2L * p.length)
+			return Strategy.COUNTING;
+		if(p.length >= RADIX_THRESHOLD || p.duplicateRatio >= DUPLICATE_RATIO)
+			return Strategy.RADIX;
+		return Strategy.INTRO;
+	}
+	
+	public static void main(String[] args){
+		StrategyCounter counter = new StrategyCounter();
+		setMetrics((strategy, profile) -> {
+			counter.record(strategy, profile);
+			System.out.println(strategy + "\t" + profile);
+		});
+		
+		int n = 100000;
+		int[] sorted = new int[n], reversed = new int[n];
+		for(int i = 0; i < n; i++){
+			sorted[i] = i * 7;
+			reversed[i] = -i * 7;
+		}
+		int[][] inputs = {
+				SortBenchmark.random(n, 42),
+				SortBenchmark.fewUnique(n, 1000, 42),
+				sorted,
+				reversed,
+				SortBenchmark.random(1000, 42),
+				{5, 3, 7, 9, 1, 4, 2, 6, 8}
+		};
+		
+		for(int[] a : inputs){
+			int[] expected = a.clone();
+			Arrays.sort(expected);
+			sort(a);
+			if(!Arrays.equals(a, expected))
+				throw new AssertionError("not sorted");
+		}
+		System.out.println(counter);
+	}
+}
@@ -7,6 +7,11 @@ package sorting;
  * 1ǰաȽȳ(FIFO, First In First Out)ʽеģ
  * 2ֻڡסɾڡβв
  * 
+ * ûʵ֣mHeadmTailֻ鳤ȡģ2ݣȡģ
+ * mMaskλ룩õʵλãpop()ֻҪƶmHeadO(1)ģ
+ * ֮󳤶ȼӱadd()ľ̯ҲO(1)ģ
+ * mHeadmTailȻȷ֮ʼԪظ
+ * 
  * 
  * @author Stargazer
  * @date 2017-03-19
@@ -15,12 +20,27 @@ package sorting;
 public class ArrayQueue {
 	//ʵֵĶУֻܴ洢int
 	
+	private static final int DEFAULT_SIZE = 16;
+	private static final int MAX_CAPACITY = 1 << 30;
+	
 	private int[] mArray;
-	private int mCount;
+	private int mMask;		//mArray.length - 1
+	private int mHead;		//Ԫص
+	private int mTail;		//һԪص
+	
+	public ArrayQueue(){
+		this(DEFAULT_SIZE);
+	}
 	
+	/**
+	 * @param sz		ʼȡΪ2ݣʱԶ
+	 */
 	public ArrayQueue(int sz){
-		mArray = new int[sz];
-		mCount = 0;
+		if(sz < 0 || sz > MAX_CAPACITY)
+			throw new IllegalArgumentException("illegal capacity: " + sz);
+		int capacity = sz <= 1 ? 1 : Integer.highestOneBit(sz - 1) << 1;
+		mArray = new int[capacity];
+		mMask = capacity - 1;
 	}
 	
 	/**
@@ -28,7 +48,26 @@ public class ArrayQueue {
 	 * @param val
 	 */
 	public void add(int val){
-		mArray[mCount++] = val;
+		if(mTail - mHead == mArray.length)
+			grow(1);
+		mArray[mTail++ & mMask] = val;
+	}
+	
+	/**
+	 * valsеԪӵеĩβ
+	 * @param vals
+	 */
+	public void addAll(int[] vals){
+		int n = vals.length;
+		if(mTail - mHead > mArray.length - n)
+			grow(n);
+		
+		//οmTailĩβٴ鿪ͷʼ
+		int t = mTail & mMask;
+		int first = Math.min(n, mArray.length - t);
+		System.arraycopy(vals, 0, mArray, t, first);
+		System.arraycopy(vals, first, mArray, 0, n - first);
+		mTail += n;
 	}
 	
 	/**
@@ -36,7 +75,9 @@ public class ArrayQueue {
 	 * @return
 	 */
 	public int front(){
-		return mArray[0];
+		if(isEmpty())
+			throw new IllegalStateException("queue is empty");
+		return mArray[mHead & mMask];
 	}
 	
 	/**
@@ -44,19 +85,38 @@ public class ArrayQueue {
 	 * @return
 	 */
 	public int pop(){
-		int ret = mArray[0];
-		mCount--;
-		for(int i = 1; i <= mCount; i++)
-			mArray[i-1] = mArray[i];
-		
-		return ret;
+		if(isEmpty())
+			throw new IllegalStateException("queue is empty");
+		return mArray[mHead++ & mMask];
+	}
+	
+	/**
+	 * ˳ȡ׵ԪطŵdstУֱdst˻߶п
+	 * @param dst
+	 * @return		ȡԪظ
+	 */
+	public int drainTo(int[] dst){
+		int n = Math.min(dst.length, size());
+		int h = mHead & mMask;
+		int first = Math.min(n, mArray.length - h);
+		System.arraycopy(mArray, h, dst, 0, first);
+		System.arraycopy(mArray, 0, dst, first, n - first);
+		mHead += n;
+		return n;
+	}
+	
+	/**
+	 * ɾԪ
+	 */
+	public void clear(){
+		mHead = mTail = 0;
 	}
 	
 	/**
 	 * ضеĴС
 	 */
 	public int size(){
-		return mCount;
+		return mTail - mHead;
 	}
 	
 	/**
@@ -66,11 +126,37 @@ public class ArrayQueue {
 		return size() == 0;
 	}
 	
+	/**
+	 * صǰĳ
+	 */
+	public int capacity(){
+		return mArray.length;
+	}
+	
+	/**
+	 * 鳤ȼӱֱٷextraԪأԪذ˳ᵽĿͷ
+	 */
+	private void grow(int extra){
+		int size = size();
+		if(extra > MAX_CAPACITY - size)
+			throw new IllegalStateException("queue is full: " + size);
+		int capacity = mArray.length;
+		while(capacity - size < extra)
+			capacity <<= 1;
+		
+		int[] array = new int[capacity];
+		drainTo(array);
+		mArray = array;
+		mMask = capacity - 1;
+		mHead = 0;
+		mTail = size;
+	}
+	
 	public static void main(String[] args){
 		int tmp = 0;
-		ArrayQueue aqueue = new ArrayQueue(12);
+		ArrayQueue aqueue = new ArrayQueue(2);
 		
-		//10/20/30η
+		//10/20/30ηУʼԶ
 		aqueue.add(10);
 		aqueue.add(20);
 		aqueue.add(30);
@@ -80,12 +166,28 @@ public class ArrayQueue {
 		System.out.println("ɾĶԪtmp=" + tmp);
 		
 		aqueue.add(40);
+		aqueue.addAll(new int[]{50, 60, 70});
 		
 		System.out.println("isEmpty()="  + aqueue.isEmpty());
 		System.out.println("size()=" + aqueue.size());
+		System.out.println("capacity()=" + aqueue.capacity());
+		
+		int[] batch = new int[2];
+		int n = aqueue.drainTo(batch);
+		System.out.println("drainTo()ȡ" + n + "Ԫ: " + batch[0] + ", " + batch[1]);
 		while(!aqueue.isEmpty()){
 			System.out.println("ԪΪ:" + aqueue.pop());
 		}
+		
+		//O(1)ģһԪν
+		int count = 1000000;
+		long start = System.nanoTime();
+		for(int i = 0; i < count; i++)
+			aqueue.add(i);
+		long sum = 0;
+		while(!aqueue.isEmpty())
+			sum += aqueue.pop();
+		System.out.println(count + "Ԫؽʱ" + (System.nanoTime() - start) / 1000000 + "ms, sum=" + sum);
 	}
 
 }
@@ -62,7 +62,7 @@ public class BubbleSort {
 					//a[j]a[j+1]
 					int tmp = a[j];
 					a[j] = a[j+1];
-					a[j+1] = a[j];
+					a[j+1] = tmp;
 					
 					//ǼΪ1
 					flag = 1;			
@@ -79,6 +79,60 @@ public class BubbleSort {
 		}
 	}
 	
+	/**
+	 * ˫ð򣨼β
+	 * 
+	 * bubbleSort2ֻܴǰðݣĩβĽСԪÿһֻǰƶһλ
+	 * {2, 3, 4, 5, 1}Ҫ4˲źã˫ðؽı
+	 * 1ңa[left...right]еݷŵҶˣ
+	 * 2󣬰a[left...right]еСݷŵˣ
+	 * 
+	 * ÿһ˶¼һηλãλ֮ԪѾλˣ
+	 * һֱӰѱ߽ÿֻ1ĳһûзʱ
+	 * ߽ͻ
+	 * ԻУֻԪزλϣֻҪٵļ
+	 * 
+	 * ˫ðҲȶ㷨
+	 * 
+	 * @param a 
+	 * @param n ĳ
+	 */
+	public static void cocktailSort(int[] a, int n){
+		int left = 0;				//a[0...left-1]Ѿλ
+		int right = n - 1;			//a[right+1...n-1]Ѿλ
+		int last;					//һηλ
+		
+		while(left < right){
+			//ңa[last+1...right]ûٷѾλ
+			last = left;
+			SortStats.pass();
+			for(int j = left; j < right; j++){
+				if(SortStats.gt(a[j], a[j+1])){
+					int tmp = a[j];
+					a[j] = a[j+1];
+					a[j+1] = tmp;
+					SortStats.swap();
+					last = j;
+				}
+			}
+			right = last;
+			
+			//a[left...last-1]ûٷѾλ
+			last = right;
+			SortStats.pass();
+			for(int j = right; j > left; j--){
+				if(SortStats.gt(a[j-1], a[j])){
+					int tmp = a[j];
+					a[j] = a[j-1];
+					a[j-1] = tmp;
+					SortStats.swap();
+					last = j;
+				}
+			}
+			left = last;
+		}
+	}
+	
 	//ð
 	public static void main(String[] args){
 		int i;
@@ -92,6 +146,7 @@ public class BubbleSort {
 		
 		bubbleSort1(a, a.length);
 		//bubbleSort2(a, a.length);
+		//cocktailSort(a, a.length);
 		
 		System.out.println("after sort: ");
 		for(i = 0; i < a.length; i++){
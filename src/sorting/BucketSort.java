@@ -1,5 +1,12 @@
 package sorting;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
 /**
  * Ͱ򣨿ܲνͰ򡣡
  * 
@@ -9,6 +16,10 @@ package sorting;
  * ʱaaֵΪͰr"±꣬aݱ
  * ȡʱͽͰֵ1ȡa[3]=5r[5]ֵ+1
  * 
+ * ʵǼͰĴСֻҪʵʵȡֵΧ[min, max]
+ * ش0ʼиҲûйϵȡֵΧԶݸ
+ * Ͱ󲿷ǿյģ˷ڴҪװױʱû
+ * 
  * 
  * @author Stargazer
  * @date 2017-03-18
@@ -16,45 +27,366 @@ package sorting;
 
 public class BucketSort {
 
+	/**
+	 * ȡֵΧݸô౶ʱΪݹϡ裬û
+	 */
+	private static final int MAX_SPARSITY = 4;
+	
+	/**
+	 * ȡֵΧֵʱʹݺҲʹüͰ㹻С
+	 */
+	private static final int MIN_COUNTING_RANGE = 1 << 10;
+	
+	/**
+	 * ȡֵΧֵʱжٶûͰ64MB
+	 * rangeתintʱ
+	 */
+	private static final int MAX_COUNTING_RANGE = 1 << 24;
+	
 	/**
 	 * Ͱ򣨴ɡ
 	 * 
 	 * @param a  	
-	 * @param max 		aֵķΧ
+	 * @param max 		aֵķΧaеݶ[0, max)֮
 	 */
 	public static void bucketSort(int[] a, int max){
-		int[] buckets;
-		
 		if(a == null || max < 1)
 			return;
 		
-		//һΪmaxbuckets,bucketsеݶʼΪ0
-		buckets = new int[max];
+		for(int i = 0; i < a.length; i++){
+			if(a[i] < 0 || a[i] >= max)
+				throw new IllegalArgumentException("a[" + i + "]=" + a[i] + " is out of range [0, " + max + ")");
+		}
+		
+		bucketSort(a);
+	}
+	
+	/**
+	 * Ͱ򣨼
+	 * 
+	 * ȱһҳСֵminֵmaxͰֻ[min, max]
+	 * ȡֵΧݸϡ裬߳MAX_COUNTING_RANGERadixSort
+	 * 
+	 * @param a  	
+	 */
+	public static void bucketSort(int[] a){
+		if(a == null || a.length < 2)
+			return;
+		
+		//1ҳСֵֵ
+		int min = a[0], max = a[0];
+		for(int i = 1; i < a.length; i++){
+			if(a[i] < min)
+				min = a[i];
+			else if(a[i] > max)
+				max = a[i];
+		}
+		
+		//ȡֵΧܳintlong
+		long range = (long) max - min + 1;
+		if(range > MAX_COUNTING_RANGE
+				|| (range > MIN_COUNTING_RANGE && range > (long) MAX_SPARSITY * a.length)){
+			RadixSort.radixSort(a);
+			return;
+		}
+		
+		countingSort(a, min, (int) range);
+	}
+	
+	/**
+	 * aеݶ[min, min+range)֮
+	 */
+	private static void countingSort(int[] a, int min, int range){
+		//һΪrangebucketsbuckets[i]Ӧֵmin+i
+		int[] buckets = new int[range];
 		
 		//1
 		for(int i = 0; i < a.length; i++)
-			buckets[a[i]]++;
+			buckets[a[i] - min]++;
 		
 		//2
-		for(int i = 0, j = 0; i < max; i++){
-			while((buckets[i]--)>0){
-				a[j++] = i;
+		for(int i = 0, j = 0; i < range; i++){
+			for(int c = buckets[i]; c > 0; c--)
+				a[j++] = min + i;
+		}
+	}
+	
+	/**
+	 * ͰʱƽÿͰԪظ
+	 */
+	private static final int TARGET_BUCKET_SIZE = 1 << 12;
+	
+	/**
+	 * ͰʱͰͰıҪܷŽshortУ
+	 */
+	private static final int MAX_BUCKETS = 1 << 12;
+	
+	/**
+	 * ͰʱÿͰƽȡ÷ֽ׼ȷ
+	 */
+	private static final int OVERSAMPLING = 16;
+	
+	/**
+	 * Ͱ򣨶Ͱint飩
+	 * 
+	 * ݰȡֵֵɸͰУʹǰһͰеݶںһͰеݣ
+	 * ȻͰֱ򣬰˳ˣ
+	 * ̿[min, max]ȷֳɶΪͰݷֲʱӳٵ
+	 * ֲںСһϡкܳβͣݻͰУ
+	 * ȡһЩźȡĸλΪͰķֽ㣬
+	 * ηֲÿͰеݸͬ
+	 * 1ȷͰķֽ㣻
+	 * 2һΣÿݶֲͰͰıŲͳƸͰĸ
+	 * 3ɸͰĸõͰеʼλãݷɢУ
+	 * 		ҪΪÿͰ
+	 * 4Ͱ֮以ɣе򲢿ԭ飻
+	 * 
+	 * ظԪغܶʱӳٵֱͼ󲿷ݶͬһֵڵķֽ
+	 * ȣͬһֵݶ䵽һͰУͰռĴ󲿷֣
+	 * ʱIPS4oʹáֵͰֽȥظÿֽsˡСs
+	 * ͨͰ֮⣬ٵһֻšsݵͰֵͰеݶȣ
+	 * Ҫ
+	 * 
+	 * ʱ临ӶΪO(N)ÿͰĴСǳģͰǲȶ㷨
+	 * 
+	 * @param a  	
+	 */
+	public static void multiBucketSort(int[] a){
+		if(a == null || a.length < 2)
+			return;
+		
+		int n = a.length;
+		int bucketCount = bucketCount(n);
+		if(bucketCount < 2){
+			QuickSort.introSort(a);
+			return;
+		}
+		
+		//1ȡλΪֽ㣺Ͱbеxsplitters[b-1] < x <= splitters[b]
+		//ȵķֽʱȥظõֵͰ
+		Random random = new Random(n);
+		int[] sample = new int[bucketCount * OVERSAMPLING];
+		for(int i = 0; i < sample.length; i++)
+			sample[i] = a[random.nextInt(n)];
+		QuickSort.introSort(sample);
+		
+		int[] splitters = new int[bucketCount - 1];
+		int m = 0;
+		for(int b = 0; b < splitters.length; b++){
+			int x = sample[(b + 1) * OVERSAMPLING];
+			if(m == 0 || splitters[m - 1] != x)
+				splitters[m++] = x;
+		}
+		boolean equalBuckets = m < splitters.length;
+		if(equalBuckets){
+			splitters = Arrays.copyOf(splitters, m);
+			bucketCount = 2 * m + 1;
+		}
+		
+		//2ÿͰͳƸͰĸ
+		short[] ids = new short[n];
+		int[] start = new int[bucketCount + 1];
+		for(int i = 0; i < n; i++){
+			int b = bucketOf(splitters, a[i], equalBuckets);
+			ids[i] = (short) b;
+			start[b + 1]++;
+		}
+		
+		//3Ͱʼλãݷɢtmp
+		for(int b = 0; b < bucketCount; b++)
+			start[b + 1] += start[b];
+		int[] next = Arrays.copyOf(start, bucketCount);
+		int[] tmp = new int[n];
+		for(int i = 0; i < n; i++)
+			tmp[next[ids[i]]++] = a[i];
+		
+		//4Ͱе򲢿a
+		List<IntBucketTask> tasks = new ArrayList<IntBucketTask>();
+		for(int b = 0; b < bucketCount; b++){
+			if(start[b + 1] > start[b])
+				tasks.add(new IntBucketTask(tmp, a, start[b], start[b + 1], equalBuckets && (b & 1) == 1));
+		}
+		ForkJoinTask.invokeAll(tasks);
+	}
+	
+	/**
+	 * Ͱ򣨶Ͱdouble飩
+	 * 
+	 * ȰdoubleתɴͬlongRadixSortٰintͬķͰ
+	 * תArrays.sort()һ-0.00.0֮ǰNaN
+	 * 
+	 * @param a  	
+	 */
+	public static void multiBucketSort(double[] a){
+		if(a == null || a.length < 2)
+			return;
+		
+		int n = a.length;
+		long[] keys = new long[n];
+		for(int i = 0; i < n; i++)
+			keys[i] = RadixSort.doubleToSortableLong(a[i]);
+		
+		int bucketCount = bucketCount(n);
+		if(bucketCount < 2){
+			Arrays.sort(keys);
+		}else{
+			Random random = new Random(n);
+			long[] sample = new long[bucketCount * OVERSAMPLING];
+			for(int i = 0; i < sample.length; i++)
+				sample[i] = keys[random.nextInt(n)];
+			Arrays.sort(sample);
+			
+			long[] splitters = new long[bucketCount - 1];
+			int m = 0;
+			for(int b = 0; b < splitters.length; b++){
+				long x = sample[(b + 1) * OVERSAMPLING];
+				if(m == 0 || splitters[m - 1] != x)
+					splitters[m++] = x;
+			}
+			boolean equalBuckets = m < splitters.length;
+			if(equalBuckets){
+				splitters = Arrays.copyOf(splitters, m);
+				bucketCount = 2 * m + 1;
 			}
+			
+			short[] ids = new short[n];
+			int[] start = new int[bucketCount + 1];
+			for(int i = 0; i < n; i++){
+				int b = bucketOf(splitters, keys[i], equalBuckets);
+				ids[i] = (short) b;
+				start[b + 1]++;
+			}
+			
+			for(int b = 0; b < bucketCount; b++)
+				start[b + 1] += start[b];
+			int[] next = Arrays.copyOf(start, bucketCount);
+			long[] tmp = new long[n];
+			for(int i = 0; i < n; i++)
+				tmp[next[ids[i]]++] = keys[i];
+			
+			List<LongBucketTask> tasks = new ArrayList<LongBucketTask>();
+			for(int b = 0; b < bucketCount; b++){
+				if(start[b + 1] > start[b])
+					tasks.add(new LongBucketTask(tmp, keys, start[b], start[b + 1], equalBuckets && (b & 1) == 1));
+			}
+			ForkJoinTask.invokeAll(tasks);
+		}
+		
+		for(int i = 0; i < n; i++)
+			a[i] = RadixSort.sortableLongToDouble(keys[i]);
+	}
+	
+	/**
+	 * ݸȷͰĸ
+	 */
+	private static int bucketCount(int n){
+		return Math.min(MAX_BUCKETS, n / TARGET_BUCKET_SIZE);
+	}
+	
+	/**
+	 * xͰı
+	 * 
+	 * losplittersеһСxλãûеֵͰʱͰıžlo
+	 * еֵͰʱx == splitters[lo]ķŵֵͰ2*lo+1ķŵͨͰ2*lo
+	 */
+	private static int bucketOf(int[] splitters, int x, boolean equalBuckets){
+		int lo = 0, hi = splitters.length;
+		while(lo < hi){
+			int mid = (lo + hi) >>> 1;
+			if(splitters[mid] < x)
+				lo = mid + 1;
+			else
+				hi = mid;
+		}
+		if(!equalBuckets)
+			return lo;
+		return lo < splitters.length && splitters[lo] == x ? 2 * lo + 1 : 2 * lo;
+	}
+	
+	/**
+	 * xͰı
+	 * 
+	 * losplittersеһСxλãûеֵͰʱͰıžlo
+	 * еֵͰʱx == splitters[lo]ķŵֵͰ2*lo+1ķŵͨͰ2*lo
+	 */
+	private static int bucketOf(long[] splitters, long x, boolean equalBuckets){
+		int lo = 0, hi = splitters.length;
+		while(lo < hi){
+			int mid = (lo + hi) >>> 1;
+			if(splitters[mid] < x)
+				lo = mid + 1;
+			else
+				hi = mid;
+		}
+		if(!equalBuckets)
+			return lo;
+		return lo < splitters.length && splitters[lo] == x ? 2 * lo + 1 : 2 * lo;
+	}
+	
+	/**
+	 * src[from, to)Ͱ򣬲dstͬλãֵͰҪ
+	 */
+	private static class IntBucketTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final int[] src, dst;
+		private final int from, to;
+		private final boolean equal;		//ǷǵֵͰ
+		
+		IntBucketTask(int[] src, int[] dst, int from, int to, boolean equal){
+			this.src = src;
+			this.dst = dst;
+			this.from = from;
+			this.to = to;
+			this.equal = equal;
+		}
+		
+		@Override
+		protected void compute(){
+			if(!equal)
+				QuickSort.introSort(src, from, to - 1);
+			System.arraycopy(src, from, dst, from, to - from);
+		}
+	}
+	
+	/**
+	 * src[from, to)Ͱ򣬲dstͬλãֵͰҪ
+	 */
+	private static class LongBucketTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final long[] src, dst;
+		private final int from, to;
+		private final boolean equal;		//ǷǵֵͰ
+		
+		LongBucketTask(long[] src, long[] dst, int from, int to, boolean equal){
+			this.src = src;
+			this.dst = dst;
+			this.from = from;
+			this.to = to;
+			this.equal = equal;
 		}
 		
-		buckets = null;
+		@Override
+		protected void compute(){
+			if(!equal)
+				Arrays.sort(src, from, to);
+			System.arraycopy(src, from, dst, from, to - from);
+		}
 	}
 	
 	public static void main(String[] args){
 		int i;
-		int a[] = {5, 3, 7, 9, 1, 4, 2, 2, 6, 3, 5, 8, 3};
+		int a[] = {5, 3, 7, 9, 1, 4, 2, 2, 6, 3, 5, 8, 3, -2};
 		
 		System.out.println("before sort:");
 		for(i = 0; i < a.length; i++)
 			System.out.print(a[i] + "\t");
 		System.out.println("");
 		
-		bucketSort(a, 10);
+		bucketSort(a);
 		
 		System.out.println("after sort");
 		for(i = 0; i < a.length; i++)
@@ -0,0 +1,443 @@
+package sorting;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * ⲿ
+ * 
+ * ڴŲʱ缸ʮGBļͲMergeSortڴ
+ * й鲢ˣⲿ׶Σ
+ * 1˳ڴԤļֳɿ飬ÿڴӳ(MappedByteBuffer)
+ * 		飬RadixSortźдһʱļΪһ˳
+ * 		黥ɣɶ̲߳еش
+ * 2·鲢Ϊÿ˳һðKWayMergeÿѡ
+ * 		˳ǰԪСǸдļٴӸ˳һԪأ
+ * 		Ű±
+ * 		ͬʱ򿪵˳鲢·ڴԤͿõļƣ
+ * 		˳̫ʱÿfanIn鲢һм˳֮ٹ鲢ļ
+ * 
+ * ļеǶĶƼ¼intΪ4ֽڣlongΪ8ֽڣֽΪˣ
+ * DataOutputStreamдĸʽͬ
+ */
+public class ExternalSort {
+	
+	public static final long DEFAULT_MEMORY_BUDGET = 64L << 20;		//ĬϵڴԤ㣺64MB
+	public static final int DEFAULT_MAX_FAN_IN = 64;				//Ĭͬʱ鲢˳
+	
+	private static final int INT_WIDTH = 4;
+	private static final int LONG_WIDTH = 8;
+	private static final int MIN_BUFFER_SIZE = 1 << 12;				//ÿд4KB
+	private static final int MERGE_BUFFER_SIZE = 1 << 16;			//鲢ʱÿϣﵽĴС
+	private static final int WRITE_BUFFER_SIZE = 1 << 20;			//д˳ʱĻС
+	
+	private final long memoryBudget;		//ʱʹõڴޣֽڣ
+	private final int parallelism;			//˳ʱе߳
+	private final Path tempDir;				//˳Ŀ¼ΪnullʱʹϵͳʱĿ¼
+	private final int maxFanIn;				//һ˹鲢ͬʱ򿪵˳
+	
+	public ExternalSort(){
+		this(DEFAULT_MEMORY_BUDGET, Runtime.getRuntime().availableProcessors(), null);
+	}
+	
+	/**
+	 * @param memoryBudget		ʱʹõڴޣֽڣ
+	 * @param parallelism		˳ʱе߳
+	 * @param tempDir			˳Ŀ¼ΪnullʱʹϵͳʱĿ¼
+	 */
+	public ExternalSort(long memoryBudget, int parallelism, Path tempDir){
+		this(memoryBudget, parallelism, tempDir, DEFAULT_MAX_FAN_IN);
+	}
+	
+	/**
+	 * @param memoryBudget		ʱʹõڴޣֽڣ
+	 * @param parallelism		˳ʱе߳
+	 * @param tempDir			˳Ŀ¼ΪnullʱʹϵͳʱĿ¼
+	 * @param maxFanIn			һ˹鲢ͬʱ򿪵˳Ϊ2
+	 */
+	public ExternalSort(long memoryBudget, int parallelism, Path tempDir, int maxFanIn){
+		if(parallelism < 1)
+			throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+		if(maxFanIn < 2)
+			throw new IllegalArgumentException("fan-in must be at least 2: " + maxFanIn);
+		if(memoryBudget < (long) Math.max(parallelism * 2, 3) * MIN_BUFFER_SIZE)
+			throw new IllegalArgumentException("memory budget is too small: " + memoryBudget);
+		this.memoryBudget = memoryBudget;
+		this.parallelism = parallelism;
+		this.tempDir = tempDir;
+		this.maxFanIn = maxFanIn;
+	}
+	
+	/**
+	 * int¼ɵļ
+	 * 
+	 * @param input		ļ
+	 * @param output	ļѴʱᱻǣ
+	 */
+	public void sortInts(Path input, Path output) throws IOException {
+		sort(input, output, INT_WIDTH);
+	}
+	
+	/**
+	 * long¼ɵļ
+	 * 
+	 * @param input		ļ
+	 * @param output	ļѴʱᱻǣ
+	 */
+	public void sortLongs(Path input, Path output) throws IOException {
+		sort(input, output, LONG_WIDTH);
+	}
+	
+	private void sort(Path input, Path output, int width) throws IOException {
+		long size = Files.size(input);
+		if(size % width != 0)
+			throw new IllegalArgumentException(input + " is not a whole number of " + width + "-byte records");
+		
+		List<Path> runs = new ArrayList<Path>();
+		try{
+			runs = createRuns(input, size, width);
+			
+			if(runs.isEmpty())
+				Files.write(output, new byte[0]);
+			else if(runs.size() == 1)
+				Files.move(runs.get(0), output, StandardCopyOption.REPLACE_EXISTING);
+			else
+				mergeRuns(runs, output, width);
+		}finally{
+			for(Path run : runs)
+				Files.deleteIfExists(run);
+		}
+	}
+	
+	/**
+	 * 1׶Σļֿ飬鲢еźд˳
+	 * 
+	 * ÿ̷ֵ߳ڴԤ / ߳д˳ĻWRITE_BUFFER_SIZE
+	 * һݵ1/8ʣµͬʱҪͻʱ飬ÿ
+	 * СǣڴԤ / ߳ - д/ 2
+	 */
+	private List<Path> createRuns(final Path input, long size, final int width) throws IOException {
+		long share = memoryBudget / parallelism;
+		final int writeBufferSize = bufferSize(Math.min(WRITE_BUFFER_SIZE, share / 8), width);
+		long chunkBytes = (share - writeBufferSize) / 2;
+		chunkBytes = Math.min(chunkBytes - chunkBytes % width, (long) Integer.MAX_VALUE / LONG_WIDTH * width);
+		
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+		List<Future<Path>> futures = new ArrayList<Future<Path>>();
+		List<Path> runs = new ArrayList<Path>();
+		try{
+			for(long pos = 0; pos < size; pos += chunkBytes){
+				final long start = pos;
+				final long length = Math.min(chunkBytes, size - pos);
+				futures.add(executor.submit(() -> sortChunk(input, start, length, width, writeBufferSize)));
+			}
+			
+			IOException failure = null;
+			for(Future<Path> future : futures){
+				try{
+					runs.add(future.get());
+				}catch(ExecutionException e){
+					if(failure == null)
+						failure = e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+				}catch(InterruptedException e){
+					Thread.currentThread().interrupt();
+					if(failure == null)
+						failure = new IOException("interrupted while creating runs", e);
+				}
+			}
+			if(failure != null){
+				for(Path run : runs)
+					Files.deleteIfExists(run);
+				throw failure;
+			}
+			return runs;
+		}finally{
+			executor.shutdownNow();
+		}
+	}
+	
+	/**
+	 * ļ[start, start+length)һڴ桢򣬲дһ˳
+	 * 
+	 * @param writeBufferSize	д˳ĻС
+	 */
+	private Path sortChunk(Path input, long start, long length, int width, int writeBufferSize) throws IOException {
+		Path run = createRun();
+		try(FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+				FileChannel out = FileChannel.open(run, StandardOpenOption.WRITE)){
+			MappedByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, start, length);
+			int n = (int) (length / width);
+			ByteBuffer buf = ByteBuffer.allocate((int) Math.min(writeBufferSize, length));
+			
+			if(width == INT_WIDTH){
+				int[] a = new int[n];
+				mapped.asIntBuffer().get(a);
+				RadixSort.radixSort(a, new int[n]);
+				
+				IntBuffer view = buf.asIntBuffer();
+				for(int i = 0; i < n; i += view.capacity()){
+					int count = Math.min(view.capacity(), n - i);
+					view.clear();
+					view.put(a, i, count);
+					buf.clear().limit(count * width);
+					writeFully(out, buf);
+				}
+			}else{
+				long[] a = new long[n];
+				mapped.asLongBuffer().get(a);
+				RadixSort.radixSort(a, new long[n]);
+				
+				LongBuffer view = buf.asLongBuffer();
+				for(int i = 0; i < n; i += view.capacity()){
+					int count = Math.min(view.capacity(), n - i);
+					view.clear();
+					view.put(a, i, count);
+					buf.clear().limit(count * width);
+					writeFully(out, buf);
+				}
+			}
+			return run;
+		}catch(IOException | RuntimeException e){
+			Files.deleteIfExists(run);
+			throw e;
+		}
+	}
+	
+	/**
+	 * һյʱļ˳
+	 */
+	private Path createRun() throws IOException {
+		return tempDir == null ? Files.createTempFile("run", ".bin") : Files.createTempFile(tempDir, "run", ".bin");
+	}
+	
+	/**
+	 * 2׶Σ˹鲢
+	 * 
+	 * ÿ˰runsÿfanIn˳鲢һм˳ֱʣµĲfanIn
+	 * ٰǹ鲢ļruns֮£ʱɵɾʣµ˳
+	 */
+	private void mergeRuns(List<Path> runs, Path output, int width) throws IOException {
+		int fanIn = fanIn();
+		
+		while(runs.size() > fanIn){
+			List<Path> next = new ArrayList<Path>();
+			try{
+				while(!runs.isEmpty()){
+					List<Path> group = runs.subList(0, Math.min(fanIn, runs.size()));
+					if(group.size() == 1){
+						next.add(group.get(0));
+					}else{
+						Path merged = createRun();
+						next.add(merged);
+						merge(group, merged, width);
+						for(Path run : group)
+							Files.deleteIfExists(run);
+					}
+					group.clear();
+				}
+			}finally{
+				//ʱɵ˳ҲҪɾ
+				runs.addAll(next);
+			}
+		}
+		merge(runs, output, width);
+	}
+	
+	/**
+	 * һ˹鲢ͬʱ򿪵˳maxFanInÿд
+	 * MERGE_BUFFER_SIZEֻÿļһ
+	 */
+	private int fanIn(){
+		long byMemory = memoryBudget / MERGE_BUFFER_SIZE - 1;
+		long byFiles = availableFileDescriptors() / 2;
+		return (int) Math.max(2, Math.min(maxFanIn, Math.min(byMemory, byFiles)));
+	}
+	
+	/**
+	 * ǰ̻ܴ򿪵ļ޷֪ʱLong.MAX_VALUE
+	 */
+	private static long availableFileDescriptors(){
+		OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+		if(!(os instanceof com.sun.management.UnixOperatingSystemMXBean))
+			return Long.MAX_VALUE;
+		com.sun.management.UnixOperatingSystemMXBean unix = (com.sun.management.UnixOperatingSystemMXBean) os;
+		return Math.max(0, unix.getMaxFileDescriptorCount() - unix.getOpenFileDescriptorCount());
+	}
+	
+	/**
+	 * KWayMergeİrunsе˳鲢outputУ
+	 * дڴԤ㣬ÿĴСΪmemoryBudget / (˳ + 1)
+	 */
+	private void merge(List<Path> runs, Path output, int width) throws IOException {
+		int k = runs.size();
+		int bufferSize = bufferSize(memoryBudget / (k + 1), width);
+		RunReader[] readers = new RunReader[k];
+		
+		try(RunWriter writer = new RunWriter(output, width, bufferSize)){
+			KWayMerge.LoserTree tree = new KWayMerge.LoserTree(k);
+			for(int i = 0; i < k; i++){
+				readers[i] = new RunReader(runs.get(i), width, bufferSize);
+				if(readers[i].advance())
+					tree.set(i, readers[i].current);
+				else
+					tree.exhaust(i);
+			}
+			tree.build();
+			
+			while(!tree.isEmpty()){
+				int w = tree.winner();
+				writer.write(tree.key(w));
+				
+				//ʤ˳һ¼˳ʱΪȡ
+				if(readers[w].advance())
+					tree.set(w, readers[w].current);
+				else
+					tree.exhaust(w);
+				tree.replay();
+			}
+		}finally{
+			for(RunReader reader : readers){
+				if(reader != null)
+					reader.close();
+			}
+		}
+	}
+	
+	/**
+	 * ÿĴССMIN_BUFFER_SIZEǼ¼ȵ
+	 */
+	private static int bufferSize(long bytes, int width){
+		int size = (int) Math.max(MIN_BUFFER_SIZE, Math.min(bytes, Integer.MAX_VALUE / 2));
+		return size - size % width;
+	}
+	
+	private static void writeFully(FileChannel channel, ByteBuffer buf) throws IOException {
+		while(buf.hasRemaining())
+			channel.write(buf);
+	}
+	
+	/**
+	 * ˳ȡһ˳еļ¼
+	 */
+	static class RunReader implements AutoCloseable {
+		
+		private final FileChannel channel;
+		private final ByteBuffer buf;
+		private final int width;
+		long current;							//ǰļ¼
+		
+		RunReader(Path run, int width, int bufferSize) throws IOException {
+			this.channel = FileChannel.open(run, StandardOpenOption.READ);
+			this.buf = ByteBuffer.allocate(bufferSize);
+			this.buf.flip();
+			this.width = width;
+		}
+		
+		/**
+		 * һ¼current
+		 * 
+		 * @return 	˳Ѿʱfalse
+		 */
+		boolean advance() throws IOException {
+			if(buf.remaining() < width){
+				buf.compact();
+				while(buf.position() < width && channel.read(buf) >= 0)
+					;
+				buf.flip();
+				if(buf.remaining() < width)
+					return false;
+			}
+			current = width == INT_WIDTH ? buf.getInt() : buf.getLong();
+			return true;
+		}
+		
+		@Override
+		public void close() throws IOException {
+			channel.close();
+		}
+	}
+	
+	/**
+	 * ˳д¼
+	 */
+	static class RunWriter implements AutoCloseable {
+		
+		private final FileChannel channel;
+		private final ByteBuffer buf;
+		private final int width;
+		
+		RunWriter(Path output, int width, int bufferSize) throws IOException {
+			this.channel = FileChannel.open(output, StandardOpenOption.WRITE,
+					StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+			this.buf = ByteBuffer.allocate(bufferSize);
+			this.width = width;
+		}
+		
+		void write(long value) throws IOException {
+			if(buf.remaining() < width)
+				flush();
+			if(width == INT_WIDTH)
+				buf.putInt((int) value);
+			else
+				buf.putLong(value);
+		}
+		
+		private void flush() throws IOException {
+			buf.flip();
+			writeFully(channel, buf);
+			buf.clear();
+		}
+		
+		@Override
+		public void close() throws IOException {
+			try{
+				flush();
+			}finally{
+				channel.close();
+			}
+		}
+	}
+	
+	public static void main(String[] args) throws IOException {
+		Path input = Files.createTempFile("unsorted", ".bin");
+		Path output = Files.createTempFile("sorted", ".bin");
+		try{
+			//д100int1MBڴԤ㡢2߳ÿԼ224KB18˳
+			//ÿ鲢4Ҫȹ鲢5ٹ鲢2м˳鲢ļ
+			int n = 1000000;
+			ByteBuffer buf = ByteBuffer.allocate(n * INT_WIDTH);
+			Random random = new Random(42);
+			for(int i = 0; i < n; i++)
+				buf.putInt(random.nextInt());
+			Files.write(input, buf.array());
+			
+			new ExternalSort(1 << 20, 2, null, 4).sortInts(input, output);
+			
+			IntBuffer sorted = ByteBuffer.wrap(Files.readAllBytes(output)).asIntBuffer();
+			boolean ok = sorted.remaining() == n;
+			for(int i = 1; ok && i < sorted.limit(); i++)
+				ok = sorted.get(i-1) <= sorted.get(i);
+			System.out.println("sorted " + sorted.limit() + " ints, in order: " + ok);
+		}finally{
+			Files.deleteIfExists(input);
+			Files.deleteIfExists(output);
+		}
+	}
+}
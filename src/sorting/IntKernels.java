@@ -0,0 +1,57 @@
+package sorting;
+
+/**
+ * intڲļѭںˡ
+ * 
+ * ʵ֣
+ * - ScalarIntKernelsͨJava룬κJVM϶У
+ * - VectorIntKernelsʹjdk.incubator.vectorVector APISIMDʵ֣
+ * 		Դڵsrc-vectorĿ¼УʱҪ
+ * 		--add-modules jdk.incubator.vectorCPUҪ֧256λ
+ * INSTANCEʱѡһ֣ĬʹScalarIntKernelsJDK 17ʵ⣬
+ * ʵֲȱĿ죩ʱָ-Dsorting.vector=trueŻ᳢Լ
+ * VectorIntKernelsʧܣģ鲻ڡCPU֧֣ʱȻ˻ص
+ * ScalarIntKernels߲Ҫһ֣
+ * ӿںScalarIntKernelsjdk.incubator.vectorκJDK϶ܱ
+ */
+interface IntKernels {
+	
+	/**
+	 * partition()ʹõʱҪĳ
+	 */
+	int PADDING = 16;
+	
+	IntKernels INSTANCE = load();
+	
+	/**
+	 * ǷSIMDʵ
+	 */
+	boolean isVectorized();
+	
+	/**
+	 * a[left...right]䳤ȲStraightInsertionSort.SMALL_SORT_THRESHOLD
+	 */
+	void sortSmall(int[] a, int left, int right);
+	
+	/**
+	 * ׼ֵpivota[left...right]غa[left...p-1]Сpivot
+	 * a[p...right]Сpivot
+	 * 
+	 * @param buf		ʱ򣬳ȲСright-left+1+PADDING
+	 * @return			pһСpivotԪصλ
+	 */
+	int partition(int[] a, int left, int right, int pivot, int[] buf);
+	
+	static IntKernels load(){
+		if(Boolean.getBoolean("sorting.vector")){
+			try{
+				//ͨأûjdk.incubator.vectorģʱӿҲʹ
+				Class<?> c = Class.forName("sorting.VectorIntKernels");
+				return (IntKernels) c.getDeclaredConstructor().newInstance();
+			}catch(ReflectiveOperationException | LinkageError | RuntimeException e){
+				//ģ鲻ڣCPU֧֣ʹñʵ
+			}
+		}
+		return new ScalarIntKernels();
+	}
+}
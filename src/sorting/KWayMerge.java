@@ -0,0 +1,243 @@
+package sorting;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * ·鲢
+ * 
+ * MergeSort.merge()ÿֻܺϲͬһڵΣҪkκϲ
+ * һʱϲÿԪҪlgkΣ·鲢һɣ
+ * ÿδkεġǰԪءѡСٴӸöβһԪأ
+ * 
+ * ѡСԪõǰ(loser tree)һkҶӵȫҶǸε
+ * ǰԪأÿڲڵ¼ǳİߣʤ߼ϱȽϣڵ
+ * ֮϶¼յʤߣ
+ * ĳҶӵֵıֻ··ϼ¼İ߸ȽһΣ
+ * ÿһԪֻҪԼlgkαȽϣСѵµÿҪȽΣ
+ * 
+ * ȵԪذεűȽϣСʤ˶·鲢ȶ
+ */
+public class KWayMerge {
+	
+	/**
+	 * kϲһµ
+	 * 
+	 * @param runs		
+	 */
+	public static int[] merge(int[][] runs){
+		int k = runs.length;
+		int[] from = new int[k];
+		int[] to = new int[k];
+		int n = 0;
+		for(int i = 0; i < k; i++){
+			to[i] = runs[i].length;
+			n += to[i];
+		}
+		
+		int[] dst = new int[n];
+		merge(runs, from, to, dst, 0);
+		return dst;
+	}
+	
+	/**
+	 * runs[i][from[i], to[i])kκϲdst[out, ...)
+	 * 
+	 * οͬһ飨runsеkָͬһ飩dst
+	 * дصfromᱻ޸ģʱfrom[i] == to[i]
+	 * 
+	 * @param runs		ڵ
+	 * @param from		εʼλã
+	 * @param to			εĽλã
+	 * @param dst		Ŀ
+	 * @param out		dstеʼдλ
+	 */
+	public static void merge(int[][] runs, int[] from, int[] to, int[] dst, int out){
+		int k = runs.length;
+		if(k == 0)
+			return;
+		
+		LoserTree tree = new LoserTree(k);
+		for(int i = 0; i < k; i++){
+			if(from[i] < to[i])
+				tree.set(i, runs[i][from[i]]);
+			else
+				tree.exhaust(i);
+		}
+		tree.build();
+		
+		while(!tree.isEmpty()){
+			int w = tree.winner();
+			int[] run = runs[w];
+			dst[out++] = run[from[w]];
+			
+			if(++from[w] < to[w])
+				tree.set(w, run[from[w]]);
+			else
+				tree.exhaust(w);
+			tree.replay();
+		}
+	}
+	
+	/**
+	 * ʽĶ·鲢ÿԴԪأϲԪذνsink
+	 * 
+	 * ԴⳤȵģļжϲʱֻÿԴ
+	 * ǰԪأҪȫڴ
+	 * 
+	 * @param sources	Դ
+	 * @param sink		պϲ
+	 */
+	public static void merge(PrimitiveIterator.OfInt[] sources, IntConsumer sink){
+		int k = sources.length;
+		if(k == 0)
+			return;
+		
+		LoserTree tree = new LoserTree(k);
+		for(int i = 0; i < k; i++){
+			if(sources[i].hasNext())
+				tree.set(i, sources[i].nextInt());
+			else
+				tree.exhaust(i);
+		}
+		tree.build();
+		
+		while(!tree.isEmpty()){
+			int w = tree.winner();
+			sink.accept((int) tree.key(w));
+			
+			if(sources[w].hasNext())
+				tree.set(w, sources[w].nextInt());
+			else
+				tree.exhaust(w);
+			tree.replay();
+		}
+	}
+	
+	/**
+	 * 
+	 * 
+	 * ҶiļֵΪkeys[i]long棬intlongݶʹã
+	 * ѵķʽţڲڵΪ1..k-1Ҷiλk+iڵjĸڵΪj/2
+	 * kһúϷȫ
+	 * tree[j](1 <= j < k)ǽڵjİߣҶӵţtree[0]յʤ
+	 * 
+	 * ʹ÷set()/exhaust()ÿҶӣbuild()֮ÿȡwinner()
+	 * set()/exhaust()ʤڵҶӣٵreplay()
+	 */
+	static final class LoserTree {
+		
+		private final int k;
+		private final int[] tree;
+		private final long[] keys;
+		private final boolean[] exhausted;		//ҶӶӦĶѾȡ꣬κԪض
+		
+		LoserTree(int k){
+			if(k < 1)
+				throw new IllegalArgumentException("k must be positive: " + k);
+			this.k = k;
+			this.tree = new int[k];
+			this.keys = new long[k];
+			this.exhausted = new boolean[k];
+		}
+		
+		void set(int leaf, long key){
+			keys[leaf] = key;
+			exhausted[leaf] = false;
+		}
+		
+		void exhaust(int leaf){
+			exhausted[leaf] = true;
+		}
+		
+		long key(int leaf){
+			return keys[leaf];
+		}
+		
+		int winner(){
+			return tree[0];
+		}
+		
+		/**
+		 * еĶζѾȡ
+		 */
+		boolean isEmpty(){
+			return exhausted[tree[0]];
+		}
+		
+		/**
+		 * ҶaǷʤҶbֵСʤʱСʤ֤ȶ
+		 */
+		private boolean beats(int a, int b){
+			if(exhausted[a])
+				return false;
+			if(exhausted[b])
+				return true;
+			return keys[a] < keys[b] || (keys[a] == keys[b] && a < b);
+		}
+		
+		/**
+		 * Ͻгʼı
+		 */
+		void build(){
+			if(k == 1){
+				tree[0] = 0;
+				return;
+			}
+			
+			//winners[j]ǽڵjʤߣֻڽʱʹ
+			int[] winners = new int[2*k];
+			for(int i = 0; i < k; i++)
+				winners[k + i] = i;
+			for(int j = k - 1; j >= 1; j--){
+				int l = winners[2*j], r = winners[2*j + 1];
+				if(beats(l, r)){
+					winners[j] = l;
+					tree[j] = r;
+				}else{
+					winners[j] = r;
+					tree[j] = l;
+				}
+			}
+			tree[0] = winners[1];
+		}
+		
+		/**
+		 * ʤҶӵֵı·±
+		 */
+		void replay(){
+			int w = tree[0];
+			for(int j = (k + w) >>> 1; j >= 1; j >>>= 1){
+				if(beats(tree[j], w)){
+					int t = tree[j];		//ԭİʤµʤΪ
+					tree[j] = w;
+					w = t;
+				}
+			}
+			tree[0] = w;
+		}
+	}
+	
+	public static void main(String[] args){
+		int i;
+		int[][] runs = {
+				{1, 5, 9, 13},
+				{2, 6, 10},
+				{},
+				{0, 3, 4, 7, 8, 11, 12}
+		};
+		
+		System.out.println("before merge:");
+		for(int[] run : runs){
+			for(i = 0; i < run.length; i++)
+				System.out.print(run[i] + "\t");
+			System.out.println("");
+		}
+		
+		int[] a = merge(runs);
+		
+		System.out.println("after merge:");
+		for(i = 0; i < a.length; i++)
+			System.out.print(a[i] + "\t");
+	}
+}
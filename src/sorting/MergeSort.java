@@ -1,5 +1,10 @@
 package sorting;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 /**
  * 鲢
  * 
@@ -36,6 +41,26 @@ package sorting;
 
 public class MergeSort {
 
+	/**
+	 * й鲢ʱСȣҲǵϲС
+	 */
+	public static final int PARALLEL_THRESHOLD = 1 << 13;
+	
+	/**
+	 * й鲢ʱֳɵĿ·鲢·
+	 */
+	private static final int MAX_FAN_IN = 256;
+	
+	/**
+	 * 鳤СڸֵʱȻ鲢ֱò
+	 */
+	private static final int MIN_MERGE = 32;
+	
+	/**
+	 * ϲĳrunʤôκ󣬾ͽԾģʽ
+	 */
+	private static final int MIN_GALLOP = 7;
+	
 	/**
 	 * һеϲһ
 	 * 
@@ -45,7 +70,19 @@ public class MergeSort {
 	 * @param end 	2Ľַ
 	 */
 	public static void merge(int[] a, int start, int mid, int end){
-		int[] temp = new int[end-start+1];		//tempǻ2ʱ
+		merge(a, start, mid, end, new int[end-start+1]);
+	}
+	
+	/**
+	 * һеϲһʱɵṩٷڴ棩
+	 * 
+	 * @param a			
+	 * @param start 	1ʼַ
+	 * @param mid 	1Ľַmid+1ǵ2ʼַ
+	 * @param end 	2Ľַ
+	 * @param temp	2ʱ򣬳ȲСend-start+1
+	 */
+	public static void merge(int[] a, int start, int mid, int end, int[] temp){
 		int i = start;					//1
 		int j = mid+1;				//2
 		int k = 0;						//ʱ
@@ -71,11 +108,7 @@ public class MergeSort {
 			temp[k++] = a[j++];
 		
 		//Ԫȫϵԭa[]
-		for(int m = 0; m < k; m++)
-			a[start+m] = temp[m];
-		
-		//ʱ
-		temp = null;
+		System.arraycopy(temp, 0, a, start, k);
 	}
 	
 	/**
@@ -86,18 +119,34 @@ public class MergeSort {
 	 * @param end	 	Ľַ
 	 */
 	public static void mergeSortUp2Down(int[] a, int start, int end){
+		if(a == null || start >= end)
+			return;
+		
+		//ֻһʱ
+		mergeSortUp2Down(a, start, end, new int[end-start+1]);
+	}
+	
+	/**
+	 * 鲢򣨴£ʱɵṩ
+	 * 
+	 * @param a  		
+	 * @param start	ʼַ
+	 * @param end	 	Ľַ
+	 * @param temp	ʱ򣬳ȲСend-start+1
+	 */
+	public static void mergeSortUp2Down(int[] a, int start, int end, int[] temp){
 		//ǵݹֹ
 		if(a == null || start >= end)
 			return;
 		
-		int mid = (end + start) /2;
+		int mid = (end + start) >>> 1;
 		
-		mergeSortUp2Down(a, start, mid);		//ݹa[start, mid]
-		mergeSortUp2Down(a, mid+1, end);		//ݹa[mid+1, end]
+		mergeSortUp2Down(a, start, mid, temp);		//ݹa[start, mid]
+		mergeSortUp2Down(a, mid+1, end, temp);		//ݹa[mid+1, end]
 		
 		//ݹ鵽ֻʣԪأǿģ𲽽ڵϲһ
 		//Ҳa[start,mid]a[mid+1, end]䣬ٽǺϲһa[start, end]
-		merge(a, start, mid, end);
+		merge(a, start, mid, end, temp);
 	}
 	
 	/**
@@ -110,17 +159,29 @@ public class MergeSort {
 	 * @param gap		ĳ
 	 */
 	public static void mergeGroups(int[]  a, int len, int gap){
+		mergeGroups(a, len, gap, new int[Math.min(2*gap, len)]);
+	}
+	
+	/**
+	 * aɴκϲʱɵṩ
+	 * 
+	 * @param a 		
+	 * @param len		ĳ
+	 * @param gap		ĳ
+	 * @param temp	ʱ򣬳ȲСmin(2*gap, len)
+	 */
+	public static void mergeGroups(int[]  a, int len, int gap, int[] temp){
 		int i;
 		int twolen = 2 * gap;		//ϲĳ
 		
 		//ÿζǽڵ顱кϲ
 		for(i = 0; i+2*gap-1 < len; i += twolen)
-			merge(a, i, i+gap-1, i+2*gap-1);
+			merge(a, i, i+gap-1, i+2*gap-1, temp);
 		
 		//i+gap-1 < len -1 ˵ʣһû 
 		//ϲ
 		if(i+gap-1 < len-1)
-			merge(a, i, i+gap-1, len-1);
+			merge(a, i, i+gap-1, len-1, temp);
 	}
 	
 	/**
@@ -132,13 +193,790 @@ public class MergeSort {
 		if(a == null)
 			return;
 		
+		int[] temp = new int[a.length];		//˵ĺϲһʱ
+		
 		/*
 		 * ȽеԪضֻһԪص飬Ȼǽ
 		 * ڵϲÿκϲ֮ĳȾͶΪԭ
 		 * 2
 		 */
 		for(int n = 1; n < a.length; n *= 2)
-				mergeGroups(a, a.length, n);
+				mergeGroups(a, a.length, n, temp);
+	}
+	
+	/**
+	 * 鲢򣨡ƹҡʽҪѺϲԭ飩
+	 * 
+	 * @param a		
+	 */
+	public static void mergeSort(int[] a){
+		if(a == null || a.length < 2)
+			return;
+		mergeSort(a, new int[a.length]);
+	}
+	
+	/**
+	 * 鲢򣨡ƹҡʽɵṩвٷκڴ棩
+	 * 
+	 * merge()ÿζҪȰѽдʱ忽ԭ飻ԭa
+	 * ͻbuf䵱Դ͡ĿġȰabufߵͬ
+	 * ȻݹʱÿһͰߵĽɫԵһѽź÷ڱġԴУ
+	 * ֱٰӺϲĿġУġĿġa
+	 * ֻпͷһο֮ÿԪÿһֻƶһΡ
+	 * 
+	 * ͬһbufڶ֮ظʹ
+	 * 
+	 * @param a		
+	 * @param buf		ȲСa.length
+	 */
+	public static void mergeSort(int[] a, int[] buf){
+		if(a == null || a.length < 2)
+			return;
+		if(buf == null || buf.length < a.length)
+			throw new IllegalArgumentException("buffer is smaller than the array");
+		
+		System.arraycopy(a, 0, buf, 0, a.length);
+		SortStats.move(a.length);
+		sortInto(buf, a, 0, a.length-1);
+	}
+	
+	/**
+	 * src[start...end]źŵdst[start...end]Уʱڸͬ
+	 * srcݻᱻʱı
+	 */
+	private static void sortInto(int[] src, int[] dst, int start, int end){
+		if(end - start + 1 <= StraightInsertionSort.SMALL_SORT_THRESHOLD){
+			StraightInsertionSort.smallSort(dst, start, end);
+			return;
+		}
+		
+		int mid = (start + end) >>> 1;
+		
+		//źsrcУ߽ɫԵ
+		SortStats.enter();
+		sortInto(dst, src, start, mid);
+		sortInto(dst, src, mid+1, end);
+		SortStats.exit();
+		
+		//䱾βӵģҪϲ
+		SortStats.move(end - start + 1);
+		if(!SortStats.gt(src[mid], src[mid+1])){
+			System.arraycopy(src, start, dst, start, end - start + 1);
+			return;
+		}
+		
+		//srcеϲdst
+		int i = start, j = mid+1;
+		for(int k = start; k <= end; k++){
+			if(j > end || (i <= mid && !SortStats.gt(src[i], src[j])))
+				dst[k] = src[i++];
+			else
+				dst[k] = src[j++];
+		}
+	}
+	
+	/**
+	 * й鲢
+	 * 
+	 * 1ֳɿ飬齻ForkJoinPoolв̣ͬ߳еmergeSort()ź
+	 * 2KWayMergeİеĿһκϲ꣬ÿԪֻһΣ
+	 * 		ϲÿһ˶Ҫ鿽һ飻
+	 * 3ΪúϲҲܲУεȷֳɶΣÿָrڸ
+	 * 		ҳзλãʹзλ֮ǰԪغǡСrͬһ
+	 * 		ڸжӦԶ·鲢длصλã
+	 * 		ÿһεĳȶͬظԪٶҲѹеһ߳ϣ
+	 * 
+	 * rȵԪذ˳ֵΣ·鲢ʱȵԪְ
+	 * ˳˲й鲢Ȼȶ
+	 * 
+	 * @param a		
+	 */
+	public static void parallelMergeSort(int[] a){
+		parallelMergeSort(a, PARALLEL_THRESHOLD);
+	}
+	
+	/**
+	 * й鲢
+	 * 
+	 * @param a				
+	 * @param threshold	СȣҲǵϲС
+	 */
+	public static void parallelMergeSort(int[] a, int threshold){
+		if(a == null || a.length < 2)
+			return;
+		if(threshold < 1)
+			throw new IllegalArgumentException("threshold must be positive: " + threshold);
+		
+		int n = a.length;
+		if(n <= threshold){
+			mergeSort(a);
+			return;
+		}
+		
+		int[] buf = new int[n];
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		
+		//MAX_FAN_INʹ㹻С
+		int block = Math.max(threshold, (int) (((long) n + MAX_FAN_IN - 1) / MAX_FAN_IN));
+		int blocks = (int) (((long) n + block - 1) / block);
+		
+		//1鲢еź򣬽buf
+		pool.invoke(new BlockSortTask(a, buf, 0, n, block));
+		
+		//2ΰȷֳpartsΣbounds[p][b]ǵpڵbеʼλ
+		int parts = (int) Math.max(1, Math.min((long) pool.getParallelism() * 4, n / threshold));
+		int[][] bounds = new int[parts + 1][blocks];
+		for(int b = 0; b < blocks; b++){
+			bounds[0][b] = b * block;
+			bounds[parts][b] = Math.min(b * block + block, n);
+		}
+		for(int p = 1; p < parts; p++)
+			splitAtRank(buf, n, block, blocks, (int) ((long) n * p / parts), bounds[p]);
+		
+		//3βе·鲢дa
+		List<MergePartTask> tasks = new ArrayList<MergePartTask>();
+		int out = 0;
+		for(int p = 0; p < parts; p++){
+			int len = 0;
+			for(int b = 0; b < blocks; b++)
+				len += bounds[p+1][b] - bounds[p][b];
+			if(len > 0)
+				tasks.add(new MergePartTask(buf, a, bounds[p], bounds[p+1], out));
+			out += len;
+		}
+		pool.invoke(new MergeAllTask(tasks));
+	}
+	
+	/**
+	 * bufĸҳrankзλãдcut[b]У
+	 * cut[b]֮ǰԪغǡСrank
+	 * 
+	 * ֵ϶֣ҳrank0ʼֵvСvԪزrank
+	 * Сv+1ԪسrankСvԪضзλ֮ǰɵv
+	 * Ԫذ˳㣬ͬʱȳֵԪǰ֤ȶ
+	 */
+	private static void splitAtRank(int[] buf, int n, int block, int blocks, int rank, int[] cut){
+		long lo = Integer.MIN_VALUE, hi = Integer.MAX_VALUE;
+		while(lo < hi){
+			long mid = (lo + hi + 1) >> 1;
+			if(countLess(buf, n, block, blocks, (int) mid) <= rank)
+				lo = mid;
+			else
+				hi = mid - 1;
+		}
+		int v = (int) lo;
+		
+		int need = rank;
+		for(int b = 0; b < blocks; b++){
+			int from = b * block, to = Math.min(from + block, n);
+			cut[b] = lowerBound(buf, from, to, v);
+			need -= cut[b] - from;
+		}
+		for(int b = 0; b < blocks && need > 0; b++){
+			int to = Math.min(b * block + block, n);
+			int take = Math.min(need, upperBound(buf, cut[b], to, v) - cut[b]);
+			cut[b] += take;
+			need -= take;
+		}
+	}
+	
+	/**
+	 * bufĸСxԪ
+	 */
+	private static long countLess(int[] buf, int n, int block, int blocks, int x){
+		long count = 0;
+		for(int b = 0; b < blocks; b++){
+			int from = b * block;
+			count += lowerBound(buf, from, Math.min(from + block, n), x) - from;
+		}
+		return count;
+	}
+	
+	/**
+	 * еذa[from, to)ΪblockĿֱź򣬽buf
+	 */
+	private static class BlockSortTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final int[] a, buf;
+		private final int from, to, block;
+		
+		BlockSortTask(int[] a, int[] buf, int from, int to, int block){
+			this.a = a;
+			this.buf = buf;
+			this.from = from;
+			this.to = to;
+			this.block = block;
+		}
+		
+		@Override
+		protected void compute(){
+			if(to - from <= block){
+				System.arraycopy(a, from, buf, from, to - from);
+				sortInto(a, buf, from, to - 1);
+				return;
+			}
+			
+			//ı߽һΪ
+			int blocks = (to - from + block - 1) / block;
+			int mid = from + (blocks / 2) * block;
+			invokeAll(new BlockSortTask(a, buf, from, mid, block),
+					new BlockSortTask(a, buf, mid, to, block));
+		}
+	}
+	
+	/**
+	 * εinvokeAll()ִеĺϲ
+	 */
+	private static class MergeAllTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final List<MergePartTask> tasks;
+		
+		MergeAllTask(List<MergePartTask> tasks){
+			this.tasks = tasks;
+		}
+		
+		@Override
+		protected void compute(){
+			invokeAll(tasks);
+		}
+	}
+	
+	/**
+	 * srcи[from[b], to[b])·鲢dst[out, ...)
+	 */
+	private static class MergePartTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final int[] src, dst, from, to;
+		private final int out;
+		
+		MergePartTask(int[] src, int[] dst, int[] from, int[] to, int out){
+			this.src = src;
+			this.dst = dst;
+			this.from = from;
+			this.to = to;
+			this.out = out;
+		}
+		
+		@Override
+		protected void compute(){
+			int[][] runs = new int[from.length][];
+			for(int b = 0; b < runs.length; b++)
+				runs[b] = src;
+			
+			//fromᱻKWayMerge.merge()޸ģڵĶιͬһ߽
+			KWayMerge.merge(runs, from.clone(), to, dst, out);
+		}
+	}
+	
+	/**
+	 * a[from, to)еһСxλ
+	 */
+	private static int lowerBound(int[] a, int from, int to, int x){
+		while(from < to){
+			int mid = (from + to) >>> 1;
+			if(a[mid] < x)
+				from = mid + 1;
+			else
+				to = mid;
+		}
+		return from;
+	}
+	
+	/**
+	 * a[from, to)еһxλ
+	 */
+	private static int upperBound(int[] a, int from, int to, int x){
+		while(from < to){
+			int mid = (from + to) >>> 1;
+			if(a[mid] <= x)
+				from = mid + 1;
+			else
+				to = mid;
+		}
+		return from;
+	}
+	
+	/**
+	 * Ȼ鲢TimSort
+	 * 
+	 * ¡ϵĹ鲢򲻹ǷѾ򣬶ҪlgN˺ϲ
+	 * ʵѾںܶƬΣΪrunȻ鲢һ㣺
+	 * 1ɨ裬ҳһһ򣨻ϸҵ䷴תrun
+	 * 2̵̫runöֲչСminRunϲ飻
+	 * 3runѹջУջrunĳ
+	 * 		len[i-2] > len[i-1] + len[i]  len[i-1] > len[i]
+	 * 		ʱͺϲڵrunϲڳrun֮У
+	 * 4ϲʱáԾҡ(galloping)ȥѾλԪأϲĳһ
+	 * 		runʤΣҲԾҳؿ
+	 * 
+	 * Ѿ߻ݣʱ临ӶȽӽO(N)O(N*lgN)
+	 * Ȼ鲢ȶ㷨
+	 * 
+	 * @param a		
+	 */
+	public static void naturalMergeSort(int[] a){
+		if(a == null || a.length < 2)
+			return;
+		
+		int n = a.length;
+		
+		//ܶʱҪϲֲ򼴿
+		if(n < MIN_MERGE){
+			StraightInsertionSort.binaryInsertSort(a, 0, n-1);
+			return;
+		}
+		
+		NaturalMerger merger = new NaturalMerger(a);
+		int minRun = minRunLength(n);
+		int lo = 0;
+		int remaining = n;
+		
+		do{
+			int runLen = countRunAndMakeAscending(a, lo, n);
+			
+			//run̫ʱöֲչminRun
+			if(runLen < minRun){
+				int force = Math.min(remaining, minRun);
+				StraightInsertionSort.binaryInsertSort(a, lo, lo + force - 1);
+				runLen = force;
+			}
+			
+			merger.pushRun(lo, runLen);
+			merger.mergeCollapse();
+			
+			lo += runLen;
+			remaining -= runLen;
+		}while(remaining != 0);
+		
+		merger.mergeForceCollapse();
+	}
+	
+	/**
+	 * runСȣȡn6λʣµλ1ټ1
+	 * [MIN_MERGE/2, MIN_MERGE]֮䣬n/minRunǡǻС2ݣ
+	 * ĺϲڳrun֮
+	 */
+	private static int minRunLength(int n){
+		int r = 0;
+		while(n >= MIN_MERGE){
+			r |= (n & 1);
+			n >>= 1;
+		}
+		return n + r;
+	}
+	
+	/**
+	 * ҳloʼrunĳȣϸrunת
+	 * ϸ򣬷תԪصȺ
+	 * 
+	 * @param a		
+	 * @param lo		runʼλ
+	 * @param hi		Ľλã
+	 * @return			runĳ
+	 */
+	private static int countRunAndMakeAscending(int[] a, int lo, int hi){
+		int runHi = lo + 1;
+		if(runHi == hi)
+			return 1;
+		
+		if(a[runHi++] < a[lo]){
+			while(runHi < hi && a[runHi] < a[runHi-1])
+				runHi++;
+			
+			//תa[lo, runHi)
+			for(int i = lo, j = runHi - 1; i < j; i++, j--){
+				int t = a[i];
+				a[i] = a[j];
+				a[j] = t;
+			}
+		}else{
+			while(runHi < hi && a[runHi] >= a[runHi-1])
+				runHi++;
+		}
+		
+		return runHi - lo;
+	}
+	
+	/**
+	 * a[base, base+len)ҳkeyӦòߵλk
+	 * a[base+k-1] < key <= a[base+k]
+	 * hintʼ13715...ĲԾȷΧٶֲ
+	 * 
+	 * @return 	k0 <= k <= len
+	 */
+	private static int gallopLeft(int key, int[] a, int base, int len, int hint){
+		int lastOfs = 0;
+		int ofs = 1;
+		
+		if(key > a[base + hint]){
+			//Ծֱa[base+hint+lastOfs] < key <= a[base+hint+ofs]
+			int maxOfs = len - hint;
+			while(ofs < maxOfs && key > a[base + hint + ofs]){
+				lastOfs = ofs;
+				ofs = (ofs << 1) + 1;
+				if(ofs <= 0)
+					ofs = maxOfs;			//
+			}
+			if(ofs > maxOfs)
+				ofs = maxOfs;
+			
+			lastOfs += hint;
+			ofs += hint;
+		}else{
+			//Ծֱa[base+hint-ofs] < key <= a[base+hint-lastOfs]
+			int maxOfs = hint + 1;
+			while(ofs < maxOfs && key <= a[base + hint - ofs]){
+				lastOfs = ofs;
+				ofs = (ofs << 1) + 1;
+				if(ofs <= 0)
+					ofs = maxOfs;
+			}
+			if(ofs > maxOfs)
+				ofs = maxOfs;
+			
+			int tmp = lastOfs;
+			lastOfs = hint - ofs;
+			ofs = hint - tmp;
+		}
+		
+		//ʱa[base+lastOfs] < key <= a[base+ofs](lastOfs, ofs]жֲ
+		lastOfs++;
+		while(lastOfs < ofs){
+			int m = lastOfs + ((ofs - lastOfs) >>> 1);
+			if(key > a[base + m])
+				lastOfs = m + 1;
+			else
+				ofs = m;
+		}
+		return ofs;
+	}
+	
+	/**
+	 * gallopLeft()ƣҵkeyӦòұߵλk
+	 * a[base+k-1] <= key < a[base+k]
+	 * 
+	 * @return 	k0 <= k <= len
+	 */
+	private static int gallopRight(int key, int[] a, int base, int len, int hint){
+		int lastOfs = 0;
+		int ofs = 1;
+		
+		if(key < a[base + hint]){
+			//Ծֱa[base+hint-ofs] <= key < a[base+hint-lastOfs]
+			int maxOfs = hint + 1;
+			while(ofs < maxOfs && key < a[base + hint - ofs]){
+				lastOfs = ofs;
+				ofs = (ofs << 1) + 1;
+				if(ofs <= 0)
+					ofs = maxOfs;
+			}
+			if(ofs > maxOfs)
+				ofs = maxOfs;
+			
+			int tmp = lastOfs;
+			lastOfs = hint - ofs;
+			ofs = hint - tmp;
+		}else{
+			//Ծֱa[base+hint+lastOfs] <= key < a[base+hint+ofs]
+			int maxOfs = len - hint;
+			while(ofs < maxOfs && key >= a[base + hint + ofs]){
+				lastOfs = ofs;
+				ofs = (ofs << 1) + 1;
+				if(ofs <= 0)
+					ofs = maxOfs;
+			}
+			if(ofs > maxOfs)
+				ofs = maxOfs;
+			
+			lastOfs += hint;
+			ofs += hint;
+		}
+		
+		//ʱa[base+lastOfs] <= key < a[base+ofs](lastOfs, ofs]жֲ
+		lastOfs++;
+		while(lastOfs < ofs){
+			int m = lastOfs + ((ofs - lastOfs) >>> 1);
+			if(key < a[base + m])
+				ofs = m;
+			else
+				lastOfs = m + 1;
+		}
+		return ofs;
+	}
+	
+	/**
+	 * Ȼ鲢бrunջͺϲ״̬Ķ
+	 */
+	private static class NaturalMerger {
+		
+		private final int[] a;
+		private final int[] tmp;				//ϲõʱ򣬽϶̵runܲһ
+		
+		private final int[] runBase = new int[49];	//ջиrunʼλã㲻ʽʱ49㹻intΧڵ飩
+		private final int[] runLen = new int[49];	//ջиrunĳ
+		private int stackSize = 0;
+		
+		private int minGallop = MIN_GALLOP;		//ԾģʽżݵӦص
+		
+		NaturalMerger(int[] a){
+			this.a = a;
+			this.tmp = new int[Math.max(1, a.length >>> 1)];
+		}
+		
+		void pushRun(int base, int len){
+			runBase[stackSize] = base;
+			runLen[stackSize] = len;
+			stackSize++;
+		}
+		
+		/**
+		 * ջļrun㲻ʽʱͺϲֱΪֹ
+		 */
+		void mergeCollapse(){
+			while(stackSize > 1){
+				int n = stackSize - 2;
+				if((n > 0 && runLen[n-1] <= runLen[n] + runLen[n+1])
+						|| (n > 1 && runLen[n-2] <= runLen[n] + runLen[n-1])){
+					if(runLen[n-1] < runLen[n+1])
+						n--;
+				}else if(runLen[n] > runLen[n+1]){
+					break;				//ʽѾ
+				}
+				mergeAt(n);
+			}
+		}
+		
+		/**
+		 * run󣬰ջʣµrunȫϲһ
+		 */
+		void mergeForceCollapse(){
+			while(stackSize > 1){
+				int n = stackSize - 2;
+				if(n > 0 && runLen[n-1] < runLen[n+1])
+					n--;
+				mergeAt(n);
+			}
+		}
+		
+		/**
+		 * ϲջеi͵i+1run
+		 */
+		private void mergeAt(int i){
+			int base1 = runBase[i];
+			int len1 = runLen[i];
+			int base2 = runBase[i+1];
+			int len2 = runLen[i+1];
+			
+			runLen[i] = len1 + len2;
+			if(i == stackSize - 3){
+				runBase[i+1] = runBase[i+2];
+				runLen[i+1] = runLen[i+2];
+			}
+			stackSize--;
+			
+			//run1вrun2һԪصЩԪѾλ
+			int k = gallopRight(a[base2], a, base1, len1, 0);
+			base1 += k;
+			len1 -= k;
+			if(len1 == 0)
+				return;
+			
+			//run2вСrun1һԪصЩԪҲѾλ
+			len2 = gallopLeft(a[base1 + len1 - 1], a, base2, len2, len2 - 1);
+			if(len2 == 0)
+				return;
+			
+			//ѽ϶̵runʱٺϲ
+			if(len1 <= len2)
+				mergeLo(base1, len1, base2, len2);
+			else
+				mergeHi(base1, len1, base2, len2);
+		}
+		
+		/**
+		 * Һϲlen1 <= len2run1ʱ
+		 * ǰѱ֤run2ĵһԪСrun1ĵһԪأrun1һԪشrun2Ԫ
+		 */
+		private void mergeLo(int base1, int len1, int base2, int len2){
+			System.arraycopy(a, base1, tmp, 0, len1);
+			int cursor1 = 0;				//ʱ(run1)
+			int cursor2 = base2;			//run2
+			int dest = base1;				//ϲ
+			
+			a[dest++] = a[cursor2++];
+			if(--len2 == 0){
+				System.arraycopy(tmp, cursor1, a, dest, len1);
+				return;
+			}
+			if(len1 == 1){
+				System.arraycopy(a, cursor2, a, dest, len2);
+				a[dest + len2] = tmp[cursor1];
+				return;
+			}
+			
+			int minGallop = this.minGallop;
+		outer:
+			while(true){
+				int count1 = 0;			//run1ʤĴ
+				int count2 = 0;			//run2ʤĴ
+				
+				//ȽϣֱĳһrunʤminGallop
+				do{
+					if(a[cursor2] < tmp[cursor1]){
+						a[dest++] = a[cursor2++];
+						count2++;
+						count1 = 0;
+						if(--len2 == 0)
+							break outer;
+					}else{
+						a[dest++] = tmp[cursor1++];
+						count1++;
+						count2 = 0;
+						if(--len1 == 1)
+							break outer;
+					}
+				}while((count1 | count2) < minGallop);
+				
+				//ԾģʽؿֱԾ治Ϊֹ
+				do{
+					count1 = gallopRight(a[cursor2], tmp, cursor1, len1, 0);
+					if(count1 != 0){
+						System.arraycopy(tmp, cursor1, a, dest, count1);
+						dest += count1;
+						cursor1 += count1;
+						len1 -= count1;
+						if(len1 <= 1)
+							break outer;
+					}
+					a[dest++] = a[cursor2++];
+					if(--len2 == 0)
+						break outer;
+					
+					count2 = gallopLeft(tmp[cursor1], a, cursor2, len2, 0);
+					if(count2 != 0){
+						System.arraycopy(a, cursor2, a, dest, count2);
+						dest += count2;
+						cursor2 += count2;
+						len2 -= count2;
+						if(len2 == 0)
+							break outer;
+					}
+					a[dest++] = tmp[cursor1++];
+					if(--len1 == 1)
+						break outer;
+					
+					minGallop--;
+				}while(count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+				
+				if(minGallop < 0)
+					minGallop = 0;
+				minGallop += 2;			//뿪Ծģʽż
+			}
+			this.minGallop = minGallop < 1 ? 1 : minGallop;
+			
+			if(len1 == 1){
+				System.arraycopy(a, cursor2, a, dest, len2);
+				a[dest + len2] = tmp[cursor1];		//run1һԪ󣬷ŵ
+			}else{
+				System.arraycopy(tmp, cursor1, a, dest, len1);
+			}
+		}
+		
+		/**
+		 * ϲlen1 > len2run2ʱmergeLo()Գ
+		 */
+		private void mergeHi(int base1, int len1, int base2, int len2){
+			System.arraycopy(a, base2, tmp, 0, len2);
+			int cursor1 = base1 + len1 - 1;		//run1
+			int cursor2 = len2 - 1;				//ʱ(run2)
+			int dest = base2 + len2 - 1;			//ϲ
+			
+			a[dest--] = a[cursor1--];
+			if(--len1 == 0){
+				System.arraycopy(tmp, 0, a, dest - (len2 - 1), len2);
+				return;
+			}
+			if(len2 == 1){
+				dest -= len1;
+				cursor1 -= len1;
+				System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+				a[dest] = tmp[cursor2];
+				return;
+			}
+			
+			int minGallop = this.minGallop;
+		outer:
+			while(true){
+				int count1 = 0;
+				int count2 = 0;
+				
+				do{
+					if(tmp[cursor2] < a[cursor1]){
+						a[dest--] = a[cursor1--];
+						count1++;
+						count2 = 0;
+						if(--len1 == 0)
+							break outer;
+					}else{
+						a[dest--] = tmp[cursor2--];
+						count2++;
+						count1 = 0;
+						if(--len2 == 1)
+							break outer;
+					}
+				}while((count1 | count2) < minGallop);
+				
+				do{
+					count1 = len1 - gallopRight(tmp[cursor2], a, base1, len1, len1 - 1);
+					if(count1 != 0){
+						dest -= count1;
+						cursor1 -= count1;
+						len1 -= count1;
+						System.arraycopy(a, cursor1 + 1, a, dest + 1, count1);
+						if(len1 == 0)
+							break outer;
+					}
+					a[dest--] = tmp[cursor2--];
+					if(--len2 == 1)
+						break outer;
+					
+					count2 = len2 - gallopLeft(a[cursor1], tmp, 0, len2, len2 - 1);
+					if(count2 != 0){
+						dest -= count2;
+						cursor2 -= count2;
+						len2 -= count2;
+						System.arraycopy(tmp, cursor2 + 1, a, dest + 1, count2);
+						if(len2 <= 1)
+							break outer;
+					}
+					a[dest--] = a[cursor1--];
+					if(--len1 == 0)
+						break outer;
+					
+					minGallop--;
+				}while(count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+				
+				if(minGallop < 0)
+					minGallop = 0;
+				minGallop += 2;
+			}
+			this.minGallop = minGallop < 1 ? 1 : minGallop;
+			
+			if(len2 == 1){
+				dest -= len1;
+				cursor1 -= len1;
+				System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+				a[dest] = tmp[cursor2];			//run2ĵһԪСŵǰ
+			}else{
+				System.arraycopy(tmp, 0, a, dest - (len2 - 1), len2);
+			}
+		}
 	}
 	
 	public static void main(String[] args){
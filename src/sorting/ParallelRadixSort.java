@@ -0,0 +1,245 @@
+package sorting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * л
+ * 
+ * ̵߳LSDÿһ˶Ҫһ顢дһ飬ٶڵ
+ * õڴлȰֽ(MSD)ݷֵ256ͰУ
+ * Ͱ֮以ɣ֮Ϳɶ߳ͬʱ
+ * 1гƬÿ߳ͳԼһƬֽڵֱͼ
+ * 2Ѹ̵ֱ߳ͼϲǰ׺ͣͰd߳tʼλ = ߳Ͱ0..d-1
+ * 		Ԫظ֮ + ߳0..t-1ͰdеԪظ֮ͣ
+ * 		ÿ߳д򻥲صҪ
+ * 3̰߳λãԼһƬԪطɢУ
+ * 4ÿͰеصݹ鴦һֽڣMSDȽϴͰȻ1~3Ƭ
+ * 		߳ͳƺͷɢͰ㹻Сʱõ̵߳LSDɣ
+ * Ԫĳֽϵֵͬ綼С2^24ķǸֽڶ0
+ * ֽڲҪͰֱӴһֽڣҲҪ飻
+ * 
+ * RadixSortһֽڵķλȡǰ
+ */
+public class ParallelRadixSort {
+	
+	/**
+	 * 鳤Ȳֵʱֱʹõ̵߳RadixSort
+	 */
+	public static final int PARALLEL_THRESHOLD = 1 << 16;
+	
+	/**
+	 * л
+	 * 
+	 * @param a 		
+	 */
+	public static void parallelRadixSort(int[] a){
+		if(a == null || a.length < 2)
+			return;
+		
+		if(a.length <= PARALLEL_THRESHOLD){
+			RadixSort.radixSort(a);
+			return;
+		}
+		
+		ForkJoinPool.commonPool().invoke(new BucketTask(a, a, new int[a.length], 0, a.length, RadixSort.INT_PASSES - 1));
+	}
+	
+	/**
+	 * ѳΪnƽгslicesƬصtƬʼλ
+	 */
+	private static int sliceStart(int n, int slices, int t){
+		return (int) ((long) n * t / slices);
+	}
+	
+	/**
+	 * in[from, to)0maxPassֽLSDinoutΪԴĿģ
+	 * շŵaУainout֮һ
+	 */
+	private static void lsdSort(int[] a, int[] in, int[] out, int from, int to, int maxPass){
+		int n = to - from;
+		int[] count = new int[RadixSort.RADIX];
+		int[] src = in, dst = out;
+		
+		for(int pass = 0; pass <= maxPass; pass++){
+			Arrays.fill(count, 0);
+			for(int i = from; i < to; i++)
+				count[RadixSort.digit(src[i], pass)]++;
+			
+			//Ԫһֽϵֵͬ
+			if(count[RadixSort.digit(src[from], pass)] == n)
+				continue;
+			
+			RadixSort.prefixSum(count);
+			for(int i = from; i < to; i++){
+				int x = src[i];
+				dst[from + count[RadixSort.digit(x, pass)]++] = x;
+			}
+			
+			int[] t = src;
+			src = dst;
+			dst = t;
+		}
+		
+		if(src != a)
+			System.arraycopy(src, from, a, from, n);
+	}
+	
+	/**
+	 * ͳa[from, to)еpassֽڵֱͼ
+	 */
+	private static class HistogramTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final int[] a, count;
+		private final int from, to, pass;
+		
+		HistogramTask(int[] a, int from, int to, int pass, int[] count){
+			this.a = a;
+			this.from = from;
+			this.to = to;
+			this.pass = pass;
+			this.count = count;
+		}
+		
+		@Override
+		protected void compute(){
+			for(int i = from; i < to; i++)
+				count[RadixSort.digit(a[i], pass)]++;
+		}
+	}
+	
+	/**
+	 * offsetиĸͰʼλãsrc[from, to)ɢdst
+	 */
+	private static class ScatterTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final int[] src, dst, offset;
+		private final int from, to, pass;
+		
+		ScatterTask(int[] src, int[] dst, int from, int to, int pass, int[] offset){
+			this.src = src;
+			this.dst = dst;
+			this.from = from;
+			this.to = to;
+			this.pass = pass;
+			this.offset = offset;
+		}
+		
+		@Override
+		protected void compute(){
+			for(int i = from; i < to; i++){
+				int x = src[i];
+				dst[offset[RadixSort.digit(x, pass)]++] = x;
+			}
+		}
+	}
+	
+	/**
+	 * in[from, to)Ͱpass͵ֽ򣬽ŵaУoutͬȵʱ
+	 */
+	private static class BucketTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final int[] a, in, out;
+		private final int from, to, pass;
+		
+		BucketTask(int[] a, int[] in, int[] out, int from, int to, int pass){
+			this.a = a;
+			this.in = in;
+			this.out = out;
+			this.from = from;
+			this.to = to;
+			this.pass = pass;
+		}
+		
+		@Override
+		protected void compute(){
+			int n = to - from;
+			if(pass < 0 || n < 2){
+				if(in != a)
+					System.arraycopy(in, from, a, from, n);
+				return;
+			}
+			
+			//Ͱ㹻СʱֱLSDʣµֽ
+			if(n <= PARALLEL_THRESHOLD){
+				lsdSort(a, in, out, from, to, pass);
+				return;
+			}
+			
+			//1ÿ߳ͳԼһƬֱͼԪֽ϶ͬʱֽ
+			int slices = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(), n / PARALLEL_THRESHOLD));
+			int p = pass;
+			int[][] counts;
+			while(true){
+				counts = new int[slices][RadixSort.RADIX];
+				List<HistogramTask> histograms = new ArrayList<HistogramTask>();
+				for(int t = 0; t < slices; t++)
+					histograms.add(new HistogramTask(in, from + sliceStart(n, slices, t), from + sliceStart(n, slices, t+1), p, counts[t]));
+				invokeAll(histograms);
+				
+				int d = RadixSort.digit(in[from], p), total = 0;
+				for(int t = 0; t < slices; t++)
+					total += counts[t][d];
+				if(total < n)
+					break;
+				if(--p < 0){
+					if(in != a)
+						System.arraycopy(in, from, a, from, n);
+					return;
+				}
+			}
+			
+			//2ϲǰ׺ͣõÿ߳ÿͰеʼдλ
+			int[] start = new int[RadixSort.RADIX + 1];
+			int sum = from;
+			for(int d = 0; d < RadixSort.RADIX; d++){
+				start[d] = sum;
+				for(int t = 0; t < slices; t++){
+					int c = counts[t][d];
+					counts[t][d] = sum;
+					sum += c;
+				}
+			}
+			start[RadixSort.RADIX] = to;
+			
+			//3̰߳ԼһƬɢoutлص
+			List<ScatterTask> scatters = new ArrayList<ScatterTask>();
+			for(int t = 0; t < slices; t++)
+				scatters.add(new ScatterTask(in, out, from + sliceStart(n, slices, t), from + sliceStart(n, slices, t+1), p, counts[t]));
+			invokeAll(scatters);
+			
+			//4ÿͰеذһֽڼ򣬴ͰȻƬ
+			List<BucketTask> tasks = new ArrayList<BucketTask>();
+			for(int d = 0; d < RadixSort.RADIX; d++){
+				if(start[d+1] > start[d])
+					tasks.add(new BucketTask(a, out, in, start[d], start[d+1], p - 1));
+			}
+			invokeAll(tasks);
+		}
+	}
+	
+	public static void main(String[] args){
+		int i;
+		int[] a = {53, -4, 9, 27, 156, -231, 96, 768, 10};
+		
+		System.out.println("before sort:");
+		for(i = 0; i < a.length; i++)
+			System.out.print(a[i] + "\t");
+		System.out.println("");
+		
+		parallelRadixSort(a);
+		
+		System.out.println("after sort:");
+		for(i = 0; i < a.length; i++)
+			System.out.print(a[i] + "\t");
+	}
+}
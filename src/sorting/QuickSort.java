@@ -1,5 +1,8 @@
 package sorting;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 /**
  * 
  * 
@@ -32,6 +35,12 @@ package sorting;
  */
 public class QuickSort {
 
+	/**
+	 * пʱгСڸֵͲٲֳµ񣬶ֱӵ
+	 * еintroSort()̫ϸȵĿ
+	 */
+	public static final int PARALLEL_THRESHOLD = 1 << 13;
+	
 	/**
 	 * 
 	 * @param a 		
@@ -41,34 +50,7 @@ public class QuickSort {
 	public static void quickSort(int[] a, int left, int right){
 		
 		if(left < right){
-			int i, j, x;
-			
-			i = left;
-			j = right;
-			x = a[i];				//Ϊ׼ֵiλþ൱һȦ
-			
-			while(i < j){
-				/*ÿζǴұ߿ʼҳһСڻ׼ֵx
-				 * ѸŵȦλУ
-				 */
-				while(i < j && a[j] > x)
-					j--;			//ҳһСx
-				if(i < j)
-					a[i++] = a[j];
-				
-				/*ĴСڻ׼ֵxa[j]ŵԭiλˣi
-				 * ƶһλʱiλÿʼҳһڻ׼ֵx
-				 * Ѹŵ֮ǰѾȡjλϣjǰƶһλ
-				 */
-				while(i < j && a[i] < x)
-					i++;			//ҳһx
-				if(i < j)
-					a[j--] = a[i];
-			}
-			/*ĴiλߵͶxСiλұߵͶx
-			 * ԴʱͿ԰ѻ׼ֵŻصiλ
-			 */
-			a[i] = x;
+			int i = partition(a, left, right);
 			
 			quickSort(a, left, i-1);		//Сڻ׼ֵa[i]()неݹ
 			quickSort(a, i+1, right);	//Դڻ׼ֵa[i](ұ)неݹ
@@ -76,6 +58,665 @@ public class QuickSort {
 		}
 	}
 	
+	/**
+	 * һ˿a[left]Ϊ׼ֵa[left...right]ֳ
+	 * 
+	 * @param a			
+	 * @param left		߽
+	 * @param right	ұ߽
+	 * @return			׼ֵڵλ
+	 */
+	private static int partition(int[] a, int left, int right){
+		int i, j, x;
+		
+		i = left;
+		j = right;
+		x = a[i];				//Ϊ׼ֵiλþ൱һȦ
+		
+		while(i < j){
+			/*ÿζǴұ߿ʼҳһСڻ׼ֵx
+			 * ѸŵȦλУ
+			 */
+			while(i < j && SortStats.gt(a[j], x))
+				j--;			//ҳһСx
+			if(i < j){
+				a[i++] = a[j];
+				SortStats.move(1);
+			}
+			
+			/*ĴСڻ׼ֵxa[j]ŵԭiλˣi
+			 * ƶһλʱiλÿʼҳһڻ׼ֵx
+			 * Ѹŵ֮ǰѾȡjλϣjǰƶһλ
+			 */
+			while(i < j && SortStats.lt(a[i], x))
+				i++;			//ҳһx
+			if(i < j){
+				a[j--] = a[i];
+				SortStats.move(1);
+			}
+		}
+		/*ĴiλߵͶxСiλұߵͶx
+		 * ԴʱͿ԰ѻ׼ֵŻصiλ
+		 */
+		a[i] = x;
+		SortStats.move(1);
+		
+		return i;
+	}
+	
+	/**
+	 * гȳֵʱáȡС(ninther)ѡ׼ֵȡ
+	 */
+	private static final int NINTHER_THRESHOLD = 128;
+	
+	/**
+	 * ʡ(introsort)
+	 * 
+	 * quickSort()a[left]Ϊ׼ֵѾʱÿ˻
+	 * ֻȥһԪأʱ临Ӷ˻ΪO(N^2)ݹҲﵽNջ
+	 * ʡڿĻ¼Ľ
+	 * 1ȡУþȡУѡ׼ֵҲֵܷþȣ
+	 * 2ݹȳ2*lgNʱ˵һֱܲȣʱԸиö
+	 * 3гȲSMALL_SORT_THRESHOLDʱStraightInsertionSort.smallSort()
+	 * 4ֻԽ϶̵һߵݹ飬ϳһѭмջȲᳬlgN
+	 * 
+	 * ʡµʱ临ӶҲO(N*lgN)ͬǲȶ㷨
+	 * 
+	 * @param a		
+	 */
+	public static void introSort(int[] a){
+		if(a == null)
+			return;
+		introSort(a, 0, a.length-1);
+	}
+	
+	/**
+	 * ʡ(introsort)
+	 * 
+	 * @param a 		
+	 * @param left		߽
+	 * @param right	ұ߽
+	 */
+	public static void introSort(int[] a, int left, int right){
+		if(left < right)
+			introSort(a, left, right, 2 * log2(right - left + 1));
+	}
+	
+	/**
+	 * ʡĵݹ
+	 * 
+	 * @param a 		
+	 * @param left		߽
+	 * @param right	ұ߽
+	 * @param depth	ʣĵݹȣ0ʱö
+	 */
+	private static void introSort(int[] a, int left, int right, int depth){
+		SortStats.enter();
+		while(right - left + 1 > StraightInsertionSort.SMALL_SORT_THRESHOLD){
+			if(depth-- == 0){
+				heapSort(a, left, right);
+				SortStats.exit();
+				return;
+			}
+			
+			int i = selectPivotAndPartition(a, left, right);
+			
+			//ֻԽ϶̵һߵݹ飬ϳһѭ
+			if(i - left < right - i){
+				introSort(a, left, i-1, depth);
+				left = i + 1;
+			}else{
+				introSort(a, i+1, right, depth);
+				right = i - 1;
+			}
+		}
+		StraightInsertionSort.smallSort(a, left, right);
+		SortStats.exit();
+	}
+	
+	/**
+	 * ʹSIMDں˵ʡ
+	 * 
+	 * introSort()ͬͬǻֺСģ򶼽IntKernels.INSTANCE
+	 * ʹVector APIʱÿδ8Ԫزûз֧Сģʹ
+	 * Ĵе˫磻ʹʱǵȼ۵ı룻
+	 * ֽһʱ飬Сڻ׼ֵǰں׼ֵǡСֵ
+	 * ǰһΪգʱٰڻ׼ֵһΣѵڻ׼ֵԪضֳ
+	 * ѾˣظԪغܶʱҲ˻
+	 * 
+	 * @param a		
+	 */
+	public static void simdSort(int[] a){
+		if(a == null || a.length < 2)
+			return;
+		int[] buf = new int[a.length + IntKernels.PADDING];
+		simdSort(a, 0, a.length-1, 2 * log2(a.length), IntKernels.INSTANCE, buf);
+	}
+	
+	private static void simdSort(int[] a, int left, int right, int depth, IntKernels kernels, int[] buf){
+		while(right - left + 1 > StraightInsertionSort.SMALL_SORT_THRESHOLD){
+			if(depth-- == 0){
+				heapSort(a, left, right);
+				return;
+			}
+			
+			int len = right - left + 1;
+			int mid = left + (len >>> 1);
+			int pivot;
+			if(len > NINTHER_THRESHOLD){
+				int s = len >>> 3;
+				int m1 = median3(a, left, left + s, left + 2*s);
+				int m2 = median3(a, mid - s, mid, mid + s);
+				int m3 = median3(a, right - 2*s, right - s, right);
+				pivot = a[median3(a, m1, m2, m3)];
+			}else{
+				pivot = a[median3(a, left, mid, right)];
+			}
+			
+			//a[left...p-1] < pivot <= a[p...right]
+			int p = kernels.partition(a, left, right, pivot, buf);
+			if(p == left){
+				//׼ֵСֵa[left...q-1]ڻ׼ֵֻa[q...right]
+				if(pivot == Integer.MAX_VALUE)
+					return;
+				left = kernels.partition(a, left, right, pivot + 1, buf);
+				continue;
+			}
+			
+			//ֻԽ϶̵һߵݹ飬ϳһѭ
+			if(p - left < right - p + 1){
+				simdSort(a, left, p-1, depth, kernels, buf);
+				left = p;
+			}else{
+				simdSort(a, p, right, depth, kernels, buf);
+				right = p - 1;
+			}
+		}
+		kernels.sortSmall(a, left, right);
+	}
+	
+	/**
+	 * ѡҳеkСԪأk0ʼ
+	 * 
+	 * һһ˻ֻ֣֮Ҫڵkλڵһ߼ң
+	 * ƽʱ临ӶΪO(N)Ϊ˱˻ΪO(N^2)ʡ˼·
+	 * ֵͬĴ2*lgN󣬸áλλѡ׼ֵܱ֤ÿ
+	 * ȥԼ30%ԪأҲO(N)introselect
+	 * 
+	 * غa[k]ǵkСԪأa[0...k-1]a[k+1...]С
+	 * 
+	 * @param a		
+	 * @param k		ҪҵǵڼСԪأ0 <= k < a.length
+	 * @return			kСԪ
+	 */
+	public static int select(int[] a, int k){
+		if(k < 0 || k >= a.length)
+			throw new IllegalArgumentException("k=" + k + " is out of range [0, " + a.length + ")");
+		
+		select(a, 0, a.length-1, k);
+		return a[k];
+	}
+	
+	/**
+	 * 򣺰СkԪذС˳ŵa[0...k-1]У
+	 * Ԫص˳ȷʱ临ӶΪO(N + k*lgk)
+	 * 
+	 * @param a		
+	 * @param k		ҪźõԪظ0 <= k <= a.length
+	 */
+	public static void partialSort(int[] a, int k){
+		if(k < 0 || k > a.length)
+			throw new IllegalArgumentException("k=" + k + " is out of range [0, " + a.length + "]");
+		if(k == 0)
+			return;
+		
+		select(a, 0, a.length-1, k-1);
+		introSort(a, 0, k-2);
+	}
+	
+	/**
+	 * a[left...right]нпѡʹkλϾǸźӦڵԪ
+	 */
+	private static void select(int[] a, int left, int right, int k){
+		int budget = 2 * log2(right - left + 1);		//ִͨ
+		
+		while(right - left + 1 > StraightInsertionSort.SMALL_SORT_THRESHOLD){
+			int i;
+			if(budget-- > 0){
+				i = selectPivotAndPartition(a, left, right);
+			}else{
+				swap(a, left, medianOfMedians(a, left, right));
+				i = partition(a, left, right);
+			}
+			
+			if(k == i)
+				return;
+			else if(k < i)
+				right = i - 1;
+			else
+				left = i + 1;
+		}
+		StraightInsertionSort.smallSort(a, left, right);
+	}
+	
+	/**
+	 * λλÿ5ԪطΪһ飬λƵǰ
+	 * ٵݹѡЩλλ
+	 * 
+	 * @return ѡĻ׼ֵڵλ
+	 */
+	private static int medianOfMedians(int[] a, int left, int right){
+		int store = left;
+		for(int g = left; g <= right; g += 5){
+			int end = Math.min(g + 4, right);
+			StraightInsertionSort.smallSort(a, g, end);
+			swap(a, (g + end) >>> 1, store++);
+		}
+		
+		int mid = left + (store - left - 1) / 2;
+		select(a, left, store - 1, mid);
+		return mid;
+	}
+	
+	/**
+	 * ѡ׼ֵa[left]Ȼٵpartition()һ˻
+	 * 
+	 * @return ׼ֵڵλ
+	 */
+	private static int selectPivotAndPartition(int[] a, int left, int right){
+		swap(a, left, selectPivot(a, left, right));
+		return partition(a, left, right);
+	}
+	
+	/**
+	 * ѡa[left...right]Ļ׼ֵϳʱȡУȡ
+	 * 
+	 * @return ׼ֵڵλ
+	 */
+	private static int selectPivot(int[] a, int left, int right){
+		int len = right - left + 1;
+		int mid = left + (len >>> 1);
+		
+		if(len > NINTHER_THRESHOLD){
+			//ȡУСθȡֵȡֵֵ
+			int s = len >>> 3;
+			int m1 = median3(a, left, left + s, left + 2*s);
+			int m2 = median3(a, mid - s, mid, mid + s);
+			int m3 = median3(a, right - 2*s, right - s, right);
+			return median3(a, m1, m2, m3);
+		}
+		return median3(a, left, mid, right);
+	}
+	
+	/**
+	 * a[i]a[j]a[k]ֵ±
+	 */
+	private static int median3(int[] a, int i, int j, int k){
+		if(SortStats.lt(a[i], a[j])){
+			if(SortStats.lt(a[j], a[k]))
+				return j;
+			return SortStats.lt(a[i], a[k]) ? k : i;
+		}else{
+			if(SortStats.lt(a[i], a[k]))
+				return i;
+			return SortStats.lt(a[j], a[k]) ? k : j;
+		}
+	}
+	
+	/**
+	 * a[left...right]жѣѶa[left]
+	 */
+	private static void heapSort(int[] a, int left, int right){
+		int n = right - left + 1;
+		
+		//һҶӽڵ㿪ʼµ
+		for(int i = n/2 - 1; i >= 0; i--)
+			siftDown(a, left, i, n);
+		
+		//ΰѶѶֵĩβٰʣµԪص
+		for(int end = n - 1; end > 0; end--){
+			swap(a, left, left + end);
+			siftDown(a, left, 0, end);
+		}
+	}
+	
+	/**
+	 * ѵµ㷨
+	 * 
+	 * @param a			
+	 * @param base		еʼλ
+	 * @param current	µڵڶеλ
+	 * @param n			ѵĴС
+	 */
+	private static void siftDown(int[] a, int base, int current, int n){
+		int tmp = a[base + current];
+		int child;
+		
+		while((child = 2*current + 1) < n){
+			if(child + 1 < n && SortStats.lt(a[base + child], a[base + child + 1]))
+				child++;								//Һѡϴ
+			if(!SortStats.lt(tmp, a[base + child]))
+				break;
+			a[base + current] = a[base + child];
+			SortStats.move(1);
+			current = child;
+		}
+		a[base + current] = tmp;
+		SortStats.move(1);
+	}
+	
+	private static void swap(int[] a, int i, int j){
+		int tmp = a[i];
+		a[i] = a[j];
+		a[j] = tmp;
+		SortStats.swap();
+	}
+	
+	/**
+	 * floor(lg(n))n0
+	 */
+	private static int log2(int n){
+		return 31 - Integer.numberOfLeadingZeros(n);
+	}
+	
+	/**
+	 * һ˻õķʽ
+	 */
+	public enum PartitionScheme {
+		/** a[left]Ϊ׼ֵġڿ֣quickSort()ԭ */
+		HOLE,
+		/** з֣⣩зֳ <x==x>x  */
+		THREE_WAY,
+		/** ˫׼ֵ֣p<=q׼ֵзֳ <pp..q>q  */
+		DUAL_PIVOT
+	}
+	
+	/**
+	 * ָĻַʽп
+	 * 
+	 * @param a 		
+	 * @param left		߽
+	 * @param right	ұ߽
+	 * @param scheme	ַʽ
+	 */
+	public static void quickSort(int[] a, int left, int right, PartitionScheme scheme){
+		switch(scheme){
+		case THREE_WAY:
+			threeWayQuickSort(a, left, right);
+			break;
+		case DUAL_PIVOT:
+			dualPivotQuickSort(a, left, right);
+			break;
+		default:
+			quickSort(a, left, right);
+			break;
+		}
+	}
+	
+	/**
+	 * зֵĿ
+	 * 
+	 * дظԪʱ״̬롢ͰֵʱͨĻ
+	 * Ѻͻ׼ֵȵԪططֵȥзһ֮оͰ
+	 * ڻ׼ֵxԪض۵м䣺
+	 * 		a[left...lt-1] < xa[lt...gt] == xa[gt+1...right] > x
+	 * ֻ֮ߵмظԪԽ࣬ҪĲ־Խ٣
+	 * ֻkֲֵͬʱ临ӶΪO(N*k)O(N*lgN)еĽСߣ
+	 * introSort()һþȡѡ׼ֵֻԽ϶̵һߵݹ飬
+	 * ȳ2*lgNʱöҲO(N*lgN)
+	 * 
+	 * @param a 		
+	 * @param left		߽
+	 * @param right	ұ߽
+	 */
+	public static void threeWayQuickSort(int[] a, int left, int right){
+		if(left < right)
+			threeWayQuickSort(a, left, right, 2 * log2(right - left + 1));
+	}
+	
+	/**
+	 * зֿĵݹ
+	 * 
+	 * @param depth	ʣĻȣ0ʱö
+	 */
+	private static void threeWayQuickSort(int[] a, int left, int right, int depth){
+		while(right - left + 1 > StraightInsertionSort.SMALL_SORT_THRESHOLD){
+			if(depth-- == 0){
+				heapSort(a, left, right);
+				return;
+			}
+			
+			swap(a, left, selectPivot(a, left, right));
+			
+			int x = a[left];
+			int lt = left;			//a[left...lt-1]Сx
+			int gt = right;			//a[gt+1...right]x
+			int i = left + 1;		//a[lt...i-1]xa[i...gt]ǻûдĲ
+			
+			while(i <= gt){
+				if(a[i] < x)
+					swap(a, lt++, i++);
+				else if(a[i] > x)
+					swap(a, i, gt--);
+				else
+					i++;
+			}
+			
+			//ֻԽ϶̵һߵݹ飬ϳһѭ
+			if(lt - left < right - gt){
+				threeWayQuickSort(a, left, lt-1, depth);
+				left = gt + 1;
+			}else{
+				threeWayQuickSort(a, gt+1, right, depth);
+				right = lt - 1;
+			}
+		}
+		StraightInsertionSort.smallSort(a, left, right);
+	}
+	
+	/**
+	 * ˫׼ֵĿ
+	 * 
+	 * ѡ׼ֵp<=qһ˻ְзֳ֣
+	 * 		a[left...lt-1] < pp <= a[lt...gt] <= qa[gt+1...right] > q
+	 * һ˻־ͰзֳݣݹĲͷôĴȵ׼ֵ٣
+	 * ظԪغܶʱ󲿷Ԫضpqм䲿ּУ
+	 * м䲿ֹʱɨһ飬ѵpqԪطֱƵˣ
+	 * ֻϸ(p, q)֮Ԫؼp==qʱм䲿ȫظԪأ
+	 * introSort()һֻԽ϶̵Ĳֵݹ飬Ĳѭ
+	 * ȳ2*lgNʱö
+	 * 
+	 * @param a 		
+	 * @param left		߽
+	 * @param right	ұ߽
+	 */
+	public static void dualPivotQuickSort(int[] a, int left, int right){
+		if(left < right)
+			dualPivotQuickSort(a, left, right, 2 * log2(right - left + 1));
+	}
+	
+	/**
+	 * ˫׼ֵĵݹ
+	 * 
+	 * @param depth	ʣĻȣ0ʱö
+	 */
+	private static void dualPivotQuickSort(int[] a, int left, int right, int depth){
+		while(right - left + 1 > StraightInsertionSort.SMALL_SORT_THRESHOLD){
+			if(depth-- == 0){
+				heapSort(a, left, right);
+				return;
+			}
+			
+			//Ⱦȡ5Ԫź򣬵2͵4Ϊ׼ֱֵŵ
+			int len = right - left + 1;
+			int seventh = (len >> 3) + (len >> 6) + 1;
+			int e3 = left + (len >>> 1);
+			int e2 = e3 - seventh, e1 = e2 - seventh;
+			int e4 = e3 + seventh, e5 = e4 + seventh;
+			sort5(a, e1, e2, e3, e4, e5);
+			swap(a, left, e2);
+			swap(a, right, e4);
+			
+			int p = a[left];
+			int q = a[right];
+			int lt = left + 1;		//a[left+1...lt-1]Сp
+			int gt = right - 1;		//a[gt+1...right-1]q
+			int i = lt;				//a[lt...i-1][p, q]֮䣬a[i...gt]ǻûдĲ
+			
+			while(i <= gt){
+				if(a[i] < p){
+					swap(a, i++, lt++);
+				}else if(a[i] > q){
+					while(a[gt] > q && i < gt)
+						gt--;
+					swap(a, i, gt--);
+					if(a[i] < p)
+						swap(a, i, lt++);
+					i++;
+				}else{
+					i++;
+				}
+			}
+			
+			//׼ֵŻصǵλ
+			swap(a, left, --lt);
+			swap(a, right, ++gt);
+			
+			//м䲿a[lt+1...gt-1]p==qʱpѾ
+			int ml = lt + 1, mr = gt - 1;
+			if(p == q){
+				ml = gt;
+				mr = gt - 1;
+			}else if(mr - ml > len * 4 / 7){
+				//м䲿ֹ˵pqԪغࣺܶƵˣٲ
+				int k = ml;
+				while(k <= mr){
+					if(a[k] == p)
+						swap(a, k++, ml++);
+					else if(a[k] == q)
+						swap(a, k, mr--);
+					else
+						k++;
+				}
+			}
+			
+			//ֻԽ϶̵ֵݹ飬Ĳѭ
+			int leftLen = lt - left, midLen = mr - ml + 1, rightLen = right - gt;
+			if(leftLen >= midLen && leftLen >= rightLen){
+				dualPivotQuickSort(a, ml, mr, depth);
+				dualPivotQuickSort(a, gt+1, right, depth);
+				right = lt - 1;
+			}else if(rightLen >= midLen){
+				dualPivotQuickSort(a, left, lt-1, depth);
+				dualPivotQuickSort(a, ml, mr, depth);
+				left = gt + 1;
+			}else{
+				dualPivotQuickSort(a, left, lt-1, depth);
+				dualPivotQuickSort(a, gt+1, right, depth);
+				left = ml;
+				right = mr;
+			}
+		}
+		StraightInsertionSort.smallSort(a, left, right);
+	}
+	
+	/**
+	 * a[i]a[j]a[k]a[l]a[m]λϵԪų
+	 */
+	private static void sort5(int[] a, int i, int j, int k, int l, int m){
+		//5Ԫص磬9αȽϽ
+		sort2(a, i, j);
+		sort2(a, l, m);
+		sort2(a, k, m);
+		sort2(a, k, l);
+		sort2(a, i, l);
+		sort2(a, i, k);
+		sort2(a, j, m);
+		sort2(a, j, l);
+		sort2(a, j, k);
+	}
+	
+	/**
+	 * a[i] > a[j]ʱ
+	 */
+	private static void sort2(int[] a, int i, int j){
+		if(a[i] > a[j])
+			swap(a, i, j);
+	}
+	
+	/**
+	 * пʹĬϵĲֵPARALLEL_THRESHOLD
+	 * 
+	 * @param a		
+	 */
+	public static void parallelQuickSort(int[] a){
+		parallelQuickSort(a, PARALLEL_THRESHOLD);
+	}
+	
+	/**
+	 * п
+	 * 
+	 * ÿ˻֮󣬻׼ֵߵлɣԿԽForkJoinPool
+	 * вͬ߳ͬʱȥ򣻵еĳȲthresholdʱ˻صе
+	 * introSort()introSort()һ2*lgNĻȣʱö
+	 * רŹġɱ֡Ҳ˻ΪO(N^2)
+	 * 
+	 * @param a				
+	 * @param threshold	ֵгȲֵʱ
+	 */
+	public static void parallelQuickSort(int[] a, int threshold){
+		if(a == null || a.length < 2)
+			return;
+		if(threshold < 1)
+			throw new IllegalArgumentException("threshold must be positive: " + threshold);
+		
+		if(a.length <= threshold)
+			introSort(a, 0, a.length-1);
+		else
+			ForkJoinPool.commonPool().invoke(new QuickSortTask(a, 0, a.length-1, threshold, 2 * log2(a.length)));
+	}
+	
+	/**
+	 * п񣺶a[left...right]
+	 */
+	private static class QuickSortTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final int[] a;
+		private final int left;
+		private final int right;
+		private final int threshold;
+		private final int depth;		//ʣĻȣ0ʱö
+		
+		QuickSortTask(int[] a, int left, int right, int threshold, int depth){
+			this.a = a;
+			this.left = left;
+			this.right = right;
+			this.threshold = threshold;
+			this.depth = depth;
+		}
+		
+		@Override
+		protected void compute(){
+			if(depth == 0){
+				heapSort(a, left, right);
+				return;
+			}
+			if(right - left + 1 <= threshold){
+				if(left < right)
+					introSort(a, left, right, depth);
+				return;
+			}
+			
+			int i = selectPivotAndPartition(a, left, right);
+			
+			//ߵзֱΪµ̳߳زе
+			invokeAll(new QuickSortTask(a, left, i-1, threshold, depth - 1),
+					new QuickSortTask(a, i+1, right, threshold, depth - 1));
+		}
+	}
+	
 	
 	public static void main(String[] args){
 		int i;
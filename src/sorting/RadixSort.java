@@ -1,5 +1,7 @@
 package sorting;
 
+import java.util.function.ToLongFunction;
+
 /**
  * 
  * 
@@ -9,7 +11,13 @@ package sorting;
  * Ȼ󣬴λʼνλһֱλ
  * ֮оˣ
  * 
+ * ġλʮλǶƵһֽڣ8λΪ256
+ * 1ȡĳһλֻλͰλ룬Ҫȡࣻ
+ * 232λint̶ֻҪ4ˣʮҪ10ˣ
+ * 3ֽڵķλȡ֮ٲ򣬸ǰˣ
+ * 4ĳһԪڸֽϵֵͬһ˾Ϳ
  * 
+ * ʱ临ӶȣO(N*d)dȶ㷨
  * 
  * @author Stargazer
  * @date 2017-03-18
@@ -17,80 +25,402 @@ package sorting;
 
 public class RadixSort {
 
+	static final int RADIX_BITS = 8;					//ÿһ˴Ķλ
+	static final int RADIX = 1 << RADIX_BITS;			//ҲͰĸ
+	static final int RADIX_MASK = RADIX - 1;
+	static final int INT_PASSES = 32 / RADIX_BITS;		//intҪ
+	private static final int LONG_PASSES = 64 / RADIX_BITS;		//longҪ
+	
 	/**
-	 * ȡaеֵ
+	 * ȡxĵpassֽڣֽڿʼΪͰıţ
+	 * ֽڵķλȡʹǰ
+	 */
+	static int digit(int x, int pass){
+		int d = (x >>> (pass * RADIX_BITS)) & RADIX_MASK;
+		if(pass == INT_PASSES - 1)
+			d ^= RADIX >>> 1;
+		return d;
+	}
+	
+	/**
+	 * ȡxĵpassֽΪͰıţֽڵķλȡ
+	 */
+	private static int digit(long x, int pass){
+		int d = (int) (x >>> (pass * RADIX_BITS)) & RADIX_MASK;
+		if(pass == LONG_PASSES - 1)
+			d ^= RADIX >>> 1;
+		return d;
+	}
+	
+	/**
+	 * ѸͰĸתɸͰеʼλ
+	 */
+	static void prefixSum(int[] count){
+		int sum = 0;
+		for(int d = 0; d < RADIX; d++){
+			int c = count[d];
+			count[d] = sum;
+			sum += c;
+		}
+	}
+	
+	/**
+	 * 
+	 * 
+	 * @param a 
+	 */
+	public static void radixSort(int[] a){
+		if(a == null || a.length < 2)
+			return;
+		radixSort(a, new int[a.length]);
+	}
+	
+	/**
+	 * ʱɵṩ˹ãвٷ飩
 	 * 
-	 * @param a  
+	 * @param a 		
+	 * @param output	ʱ򣬳ȲСa.length
 	 */
-	private static int getMax(int[] a){
-		int max;
+	public static void radixSort(int[] a, int[] output){
+		if(a == null || a.length < 2)
+			return;
+		if(output == null || output.length < a.length)
+			throw new IllegalArgumentException("output buffer is smaller than the array");
+		
+		int n = a.length;
+		
+		//һαͳƳÿһ˸ͰԪصĸbuckets[pass][d]
+		int[][] buckets = new int[INT_PASSES][RADIX];
+		for(int i = 0; i < n; i++){
+			int x = a[i];
+			for(int pass = 0; pass < INT_PASSES; pass++)
+				buckets[pass][digit(x, pass)]++;
+		}
 		
-		max = a[0];
-		for(int i = 1; i < a.length; i++){
-			if(a[i] > max)
-				max = a[i];
+		int[] src = a, dst = output;
+		for(int pass = 0; pass < INT_PASSES; pass++){
+			int[] count = buckets[pass];
+			
+			//Ԫһֽϵֵͬһ˲ı
+			if(count[digit(src[0], pass)] == n)
+				continue;
+			
+			prefixSum(count);
+			SortStats.pass();
+			SortStats.move(n);
+			
+			//ǰԪطԵͰУ֤ȶ
+			for(int i = 0; i < n; i++){
+				int x = src[i];
+				dst[count[digit(x, pass)]++] = x;
+			}
+			
+			int[] t = src;
+			src = dst;
+			dst = t;
 		}
 		
-		return max;
+		//һ˵ĽʱУa[]
+		if(src != a){
+			System.arraycopy(src, 0, a, 0, n);
+			SortStats.move(n);
+		}
 	}
+	
 	/**
-	 * 鰴աĳλͰ
+	 * long飬8ˣ
 	 * 
-	 * @param a		
-	 * @param exp		ָaոָ
+	 * @param a 
+	 */
+	public static void radixSort(long[] a){
+		if(a == null || a.length < 2)
+			return;
+		radixSort(a, new long[a.length]);
+	}
+	
+	/**
+	 * long飬ʱɵṩ
 	 * 
-	 * 磬a={53, 4, 9, 27, 156, 231, 95, 786, 10}
-	 * 			(1)exp=1ʱʾ"λ"a
-	 * 			(2)exp=10ʱʾ"ʮλ"a
-	 * 			(3)exp=100ʱʾ"λ"a
-	 * 			...
-	 */
-	private static void countSort(int[] a, int exp){
-		int[] output = new int[a.length];		//洢ݵʱ
-		int[] buckets = new int[10];				//ڵĳһλ˵ϵֶ϶С10
-		
-		//ݳֵĴ洢Ϊbuckets[]еԪֵ,Ҳbuckets[i]ֵ
-		//ʾaֵiֵĴ
-		for(int i = 0; i < a.length; i++)
-			buckets[(a[i]/exp)%10]++;
-		
-		//buckets[i]Ŀøĺbuckets[i]ֵǸoutput[]еλ
-		//ֵiǰԪسִӣɵõԪioutputеλ
-		for(int i = 1; i < 10; i++)
-			buckets[i] += buckets[i-1];	
-		
-		//forѭbuckets[i]ֵͱʾa[i]ֵеλ
-		//ݰ򱣴浽output
-		for(int i = a.length-1; i >= 0; i--){
-			output[buckets[(a[i]/exp)%10]-1] = a[i];	//a[i]ֵŵֵӦе˳λ
-			buckets[(a[i]/exp)%10]--;
+	 * @param a 		
+	 * @param output	ʱ򣬳ȲСa.length
+	 */
+	public static void radixSort(long[] a, long[] output){
+		if(a == null || a.length < 2)
+			return;
+		if(output == null || output.length < a.length)
+			throw new IllegalArgumentException("output buffer is smaller than the array");
+		
+		int n = a.length;
+		
+		int[][] buckets = new int[LONG_PASSES][RADIX];
+		for(int i = 0; i < n; i++){
+			long x = a[i];
+			for(int pass = 0; pass < LONG_PASSES; pass++)
+				buckets[pass][digit(x, pass)]++;
 		}
 		
-		//õݸֵa[]
-		for(int i = 0; i < a.length; i++)
-			a[i] = output[i];
+		long[] src = a, dst = output;
+		for(int pass = 0; pass < LONG_PASSES; pass++){
+			int[] count = buckets[pass];
+			if(count[digit(src[0], pass)] == n)
+				continue;
+			
+			prefixSum(count);
+			for(int i = 0; i < n; i++){
+				long x = src[i];
+				dst[count[digit(x, pass)]++] = x;
+			}
+			
+			long[] t = src;
+			src = dst;
+			dst = t;
+		}
 		
-		output = null;
-		buckets = null;		
+		if(src != a)
+			System.arraycopy(src, 0, a, 0, n);
 	}
 	
 	/**
-	 * 
+	 * float飩
+	 * 
+	 * IEEE-754ĶƱʾУĴСλģʽʱĴһ£
+	 * ෴԰Ѹλĸλȡ֮󣬵õintĴ
+	 * ĴȫһˣЩintתɣ
+	 * Arrays.sort()һ-0.0f0.0f֮ǰNaN
 	 * 
-	 * @param a 
+	 * @param a 
 	 */
-	public static void radixSort(int[] a){
-		int exp;			//ָҲİ"λ"ʱexp=1"ʮλ"ʱexp=10"λ"ʱexp=100;...
-		int max = getMax(a);		//aеֵԷҪܹԶ"λ"ֱ
+	public static void radixSort(float[] a){
+		if(a == null || a.length < 2)
+			return;
+		
+		int n = a.length;
+		int[] keys = new int[n];
+		for(int i = 0; i < n; i++)
+			keys[i] = floatToSortableInt(a[i]);
+		
+		radixSort(keys, new int[n]);
+		
+		for(int i = 0; i < n; i++)
+			a[i] = sortableIntToFloat(keys[i]);
+	}
+	
+	/**
+	 * double飩floatֻͬʹ64λlong
+	 * 
+	 * @param a 
+	 */
+	public static void radixSort(double[] a){
+		if(a == null || a.length < 2)
+			return;
+		
+		int n = a.length;
+		long[] keys = new long[n];
+		for(int i = 0; i < n; i++)
+			keys[i] = doubleToSortableLong(a[i]);
+		
+		radixSort(keys, new long[n]);
+		
+		for(int i = 0; i < n; i++)
+			a[i] = sortableLongToDouble(keys[i]);
+	}
+	
+	/**
+	 * floatתɴͬintλλȡ
+	 */
+	static int floatToSortableInt(float f){
+		int bits = Float.floatToIntBits(f);
+		return bits ^ ((bits >> 31) & 0x7fffffff);
+	}
+	
+	/**
+	 * floatToSortableInt()任任ıλһξͻԭˣ
+	 */
+	static float sortableIntToFloat(int key){
+		return Float.intBitsToFloat(key ^ ((key >> 31) & 0x7fffffff));
+	}
+	
+	/**
+	 * doubleתɴͬlongλλȡ
+	 */
+	static long doubleToSortableLong(double d){
+		long bits = Double.doubleToLongBits(d);
+		return bits ^ ((bits >> 63) & 0x7fffffffffffffffL);
+	}
+	
+	/**
+	 * doubleToSortableLong()任
+	 */
+	static double sortableLongToDouble(long key){
+		return Double.longBitsToDouble(key ^ ((key >> 63) & 0x7fffffffffffffffL));
+	}
+	
+	/**
+	 * argsortkeysлͬʱindexжӦλõԪ
+	 * һƶindex[i]Ȼkeys[i]Ӧ
+	 * indexʼΪ0, 1, 2, ...indexǸ¼ʱԭʼ±꣬
+	 * ҪװͿԶԼ¼ȶ
+	 * 
+	 * @param keys		ļ
+	 * @param index	keysһһӦ飨ͨǼ¼±꣩ȱkeysͬ
+	 */
+	public static void radixSortPairs(int[] keys, int[] index){
+		if(keys == null || index == null)
+			return;
+		if(keys.length != index.length)
+			throw new IllegalArgumentException("keys and index must have the same length");
+		if(keys.length < 2)
+			return;
+		
+		int n = keys.length;
+		
+		int[][] buckets = new int[INT_PASSES][RADIX];
+		for(int i = 0; i < n; i++){
+			int x = keys[i];
+			for(int pass = 0; pass < INT_PASSES; pass++)
+				buckets[pass][digit(x, pass)]++;
+		}
+		
+		int[] srcKeys = keys, dstKeys = new int[n];
+		int[] srcIndex = index, dstIndex = new int[n];
+		for(int pass = 0; pass < INT_PASSES; pass++){
+			int[] count = buckets[pass];
+			if(count[digit(srcKeys[0], pass)] == n)
+				continue;
+			
+			prefixSum(count);
+			for(int i = 0; i < n; i++){
+				int pos = count[digit(srcKeys[i], pass)]++;
+				dstKeys[pos] = srcKeys[i];
+				dstIndex[pos] = srcIndex[i];
+			}
+			
+			int[] t = srcKeys;
+			srcKeys = dstKeys;
+			dstKeys = t;
+			t = srcIndex;
+			srcIndex = dstIndex;
+			dstIndex = t;
+		}
+		
+		if(srcKeys != keys){
+			System.arraycopy(srcKeys, 0, keys, 0, n);
+			System.arraycopy(srcIndex, 0, index, 0, n);
+		}
+	}
+	
+	/**
+	 * longargsortradixSortPairs(int[], int[])ͬΪlong8
+	 * 
+	 * @param keys		ļ
+	 * @param index	keysһһӦ飬ȱkeysͬ
+	 */
+	public static void radixSortPairs(long[] keys, int[] index){
+		if(keys == null || index == null)
+			return;
+		if(keys.length != index.length)
+			throw new IllegalArgumentException("keys and index must have the same length");
+		if(keys.length < 2)
+			return;
+		
+		int n = keys.length;
+		
+		int[][] buckets = new int[LONG_PASSES][RADIX];
+		for(int i = 0; i < n; i++){
+			long x = keys[i];
+			for(int pass = 0; pass < LONG_PASSES; pass++)
+				buckets[pass][digit(x, pass)]++;
+		}
+		
+		long[] srcKeys = keys, dstKeys = new long[n];
+		int[] srcIndex = index, dstIndex = new int[n];
+		for(int pass = 0; pass < LONG_PASSES; pass++){
+			int[] count = buckets[pass];
+			if(count[digit(srcKeys[0], pass)] == n)
+				continue;
+			
+			prefixSum(count);
+			for(int i = 0; i < n; i++){
+				int pos = count[digit(srcKeys[i], pass)]++;
+				dstKeys[pos] = srcKeys[i];
+				dstIndex[pos] = srcIndex[i];
+			}
+			
+			long[] t = srcKeys;
+			srcKeys = dstKeys;
+			dstKeys = t;
+			int[] u = srcIndex;
+			srcIndex = dstIndex;
+			dstIndex = u;
+		}
+		
+		if(srcKeys != keys){
+			System.arraycopy(srcKeys, 0, keys, 0, n);
+			System.arraycopy(srcIndex, 0, index, 0, n);
+		}
+	}
+	
+	/**
+	 * Զȶdecorate-sort-undecorate
+	 * 
+	 * ComparatorʱÿαȽ϶ҪñȽ󣬶ɢڶУ
+	 * ȽϵĿԶڱȽϱﻻһ
+	 * 1ÿֻһkeyȡlong
+	 * 2ѣ - Сڸλԭʼ±ڵλƴһlongradixSort(long[])
+	 * 		±겻ͬƴɵֵͬʱ±򣬽ȶģ
+	 * 		ȡֵΧ̫ƴ64λʱΪ±ֿţradixSortPairs()
+	 * 3ź±ж
+	 * ûκαȽϣʱ临ӶΪO(N)
+	 * 
+	 * @param a		
+	 * @param key	Ӷȡĺзŵlong
+	 */
+	public static <T> void sortByKey(T[] a, ToLongFunction<? super T> key){
+		if(a == null || a.length < 2)
+			return;
+		
+		int n = a.length;
+		long[] keys = new long[n];
+		long min = Long.MAX_VALUE, max = Long.MIN_VALUE;
+		for(int i = 0; i < n; i++){
+			long k = key.applyAsLong(a[i]);
+			keys[i] = k;
+			if(k < min)
+				min = k;
+			if(k > max)
+				max = k;
+		}
+		
+		int[] index;
+		int indexBits = 32 - Integer.numberOfLeadingZeros(n - 1);
+		int rangeBits = 64 - Long.numberOfLeadingZeros(max - min);		//max-min޷
+		
+		if(rangeBits + indexBits <= 64){
+			//ƴɵֵ޷ȽϣλȡͿ԰з
+			for(int i = 0; i < n; i++)
+				keys[i] = (((keys[i] - min) << indexBits) | i) ^ Long.MIN_VALUE;
+			radixSort(keys);
+			
+			index = new int[n];
+			long mask = (1L << indexBits) - 1;
+			for(int i = 0; i < n; i++)
+				index[i] = (int) (keys[i] & mask);
+		}else{
+			index = new int[n];
+			for(int i = 0; i < n; i++)
+				index[i] = i;
+			radixSortPairs(keys, index);
+		}
 		
-		//"λ"ʼaָexp
-		for(exp = 1; max/exp > 0; exp *= 10)
-			countSort(a, exp);
+		//±ж
+		T[] copy = a.clone();
+		for(int i = 0; i < n; i++)
+			a[i] = copy[index[i]];
 	}
 	
 	public static void main(String[] args){
 		int i;
-		int[] a = {53, 4, 9, 27, 156, 231, 96, 768, 10};
+		int[] a = {53, -4, 9, 27, 156, -231, 96, 768, 10};
 		
 		System.out.println("before sort:");
 		for(i = 0; i < a.length; i++)
@@ -0,0 +1,36 @@
+package sorting;
+
+/**
+ * IntKernelsıʵ֣ڲʹVector APIʱʹ
+ */
+class ScalarIntKernels implements IntKernels {
+	
+	@Override
+	public boolean isVectorized(){
+		return false;
+	}
+	
+	@Override
+	public void sortSmall(int[] a, int left, int right){
+		StraightInsertionSort.smallSort(a, left, right);
+	}
+	
+	/**
+	 * СpivotԪдaǰдλòᳬλãд
+	 * bufУbuf棻ÿԪ߶дֻƶдָ룬ûз֧
+	 */
+	@Override
+	public int partition(int[] a, int left, int right, int pivot, int[] buf){
+		int l = left, r = 0;
+		for(int i = left; i <= right; i++){
+			int x = a[i];
+			int less = x < pivot ? 1 : 0;
+			a[l] = x;
+			buf[r] = x;
+			l += less;
+			r += 1 - less;
+		}
+		System.arraycopy(buf, 0, a, l, r);
+		return l;
+	}
+}
@@ -53,6 +53,61 @@ public class SelectSort {
 		}
 	}
 	
+	/**
+	 * ˫ѡ
+	 * 
+	 * ÿһ˱a[left...right]ʱͬʱҳеСԪغԪأ
+	 * ֱa[left]a[right]ÿһ˸һԪأ
+	 * һ룻
+	 * ͬʱǷѾģǣͲҪټˣ
+	 * ˶Ѿֻһ
+	 * 
+	 * ע⣺selectSortһıԪصԴⲢȶ㷨
+	 * 
+	 * @param a			
+	 * @param n 		ĳ
+	 */
+	public static void doubleSelectSort(int[] a, int n){
+		int left = 0;			//a[0...left-1]ǰ벿
+		int right = n - 1;		//a[right+1...n-1]ĺ벿
+		
+		while(left < right){
+			int min = left, max = left;
+			boolean sorted = true;		//ǷѾ
+			
+			SortStats.pass();
+			for(int j = left + 1; j <= right; j++){
+				if(SortStats.lt(a[j], a[j-1]))
+					sorted = false;
+				if(SortStats.lt(a[j], a[min]))
+					min = j;
+				else if(SortStats.gt(a[j], a[max]))
+					max = j;
+			}
+			if(sorted)
+				break;
+			
+			//СԪطŵ
+			int tmp = a[left];
+			a[left] = a[min];
+			a[min] = tmp;
+			SortStats.swap();
+			
+			//Ԫԭˣոձminλ
+			if(max == left)
+				max = min;
+			
+			//ԪطŵҶ
+			tmp = a[right];
+			a[right] = a[max];
+			a[max] = tmp;
+			SortStats.swap();
+			
+			left++;
+			right--;
+		}
+	}
+	
 	public static void main(String[] args){
 		int i;
 		int[] a = {5, 3, 7, 9, 1, 4, 2, 6, 8};
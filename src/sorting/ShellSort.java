@@ -1,5 +1,9 @@
 package sorting;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * ϣ/С
  * 
@@ -107,6 +111,131 @@ public class ShellSort {
 		}
 	}
 	
+	/**
+	 * ϣ
+	 * 
+	 * оϣܣn/2ϼУ֮йӣ
+	 * λúżλϵԪֱһ˲ŻụȽϣO(N^2)
+	 * Ще֮以ʣӽʣҪõö
+	 */
+	public enum GapSequence {
+		/** n/2, n/4, ..., 1shellSort()ʹõ */
+		HALVING(null),
+		/** CiuraͨʵõУ1, 4, 10, 23, 57, 132, 301, 701, 1750֮ÿγ2.25 */
+		CIURA(ciuraGaps()),
+		/** TokudaУh(k) = ceil((9*(9/4)^k - 4)/5)1, 4, 9, 20, 46, 103, ... */
+		TOKUDA(tokudaGaps()),
+		/** SedgewickУ1, 8, 23, 77, 281, ...4^k + 3*2^(k-1) + 1O(N^(4/3)) */
+		SEDGEWICK(sedgewickGaps()),
+		/** PrattУ2^p*3^qO(N*lg^2(N))ܶ */
+		PRATT(prattGaps());
+		
+		private final int[] gaps;		//СеʱӲnʼ
+		
+		GapSequence(int[] gaps){
+			this.gaps = gaps;
+		}
+	}
+	
+	/**
+	 * ϣָУ
+	 * 
+	 * ÿһgapһһطֱ򣨼groupSort()Ǵ
+	 * gapԪؿʼ˳󣬰ÿԪز뵽У
+	 * ͬʱеģֻ˳رһ飬ԻѺã
+	 * жԤȼõĳвκڴ
+	 * 
+	 * @param a 		
+	 * @param n 		ĳ
+	 * @param seq		
+	 */
+	public static void shellSort(int[] a, int n, GapSequence seq){
+		//ܶʱѾû
+		if(n <= StraightInsertionSort.SMALL_SORT_THRESHOLD){
+			StraightInsertionSort.smallSort(a, 0, n-1);
+			return;
+		}
+		
+		if(seq.gaps == null){
+			for(int gap = n/2; gap > 0; gap /= 2)
+				hSort(a, n, gap);
+			return;
+		}
+		
+		//ҵСnĵһǰһʼ
+		int k = 0;
+		while(k < seq.gaps.length && seq.gaps[k] < n)
+			k++;
+		for(k--; k >= 0; k--)
+			hSort(a, n, seq.gaps[k]);
+	}
+	
+	/**
+	 * gapΪ齻һ˲
+	 */
+	private static void hSort(int[] a, int n, int gap){
+		SortStats.pass();
+		for(int j = gap; j < n; j++){
+			int temp = a[j];
+			int k = j - gap;
+			while(k >= 0 && SortStats.gt(a[k], temp)){
+				a[k+gap] = a[k];
+				k -= gap;
+			}
+			a[k+gap] = temp;
+			SortStats.move((j - k) / gap);
+		}
+	}
+	
+	private static int[] ciuraGaps(){
+		int[] known = {1, 4, 10, 23, 57, 132, 301, 701, 1750};
+		List<Integer> gaps = new ArrayList<Integer>();
+		for(int g : known)
+			gaps.add(g);
+		
+		long g = known[known.length-1];
+		while((g = (long) (g * 2.25)) < Integer.MAX_VALUE)
+			gaps.add((int) g);
+		return toArray(gaps);
+	}
+	
+	private static int[] tokudaGaps(){
+		List<Integer> gaps = new ArrayList<Integer>();
+		double p = 1;							//(9/4)^k
+		long g;
+		while((g = (long) Math.ceil((9 * p - 4) / 5)) < Integer.MAX_VALUE){
+			gaps.add((int) g);
+			p *= 2.25;
+		}
+		return toArray(gaps);
+	}
+	
+	private static int[] sedgewickGaps(){
+		List<Integer> gaps = new ArrayList<Integer>();
+		gaps.add(1);
+		long g;
+		for(int k = 1; (g = (1L << (2*k)) + 3 * (1L << (k-1)) + 1) < Integer.MAX_VALUE; k++)
+			gaps.add((int) g);
+		return toArray(gaps);
+	}
+	
+	private static int[] prattGaps(){
+		List<Integer> gaps = new ArrayList<Integer>();
+		for(long p2 = 1; p2 < Integer.MAX_VALUE; p2 *= 2){
+			for(long g = p2; g < Integer.MAX_VALUE; g *= 3)
+				gaps.add((int) g);
+		}
+		Collections.sort(gaps);
+		return toArray(gaps);
+	}
+	
+	private static int[] toArray(List<Integer> list){
+		int[] array = new int[list.size()];
+		for(int i = 0; i < array.length; i++)
+			array[i] = list.get(i);
+		return array;
+	}
+	
 	public static void main(String[] args){
 		int i; 
 		int[] a = {5, 3, 7, 9, 1, 4, 2, 6, 8};
@@ -0,0 +1,388 @@
+package sorting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 㷨ܲԣʾã
+ *
+ * ֻһдġмӾܿʾ򣬼ʱķܼ򵥣
+ * ܴĻ׼ԣܻعjmhĿ¼еJMH׼
+ * (SortingBenchmarkQuadraticSortBenchmark)зʽSortingBenchmark
+ *
+ * ͬһݣòͬ򷽷ÿַԤ֣JIT
+ * ѴãȻټʱ֣ȡһΣɡÿԪõ
+ * (ns/element)ͬģ֮ҲֱӱȽϣ
+ *
+ * ÿһǰԭʼ¿һݣ֤ÿ붼ͬ
+ *
+ * õʱ䣬ͳзڴ棨ÿԪصֽԼ
+ * ɵķʣֶʱ飻ͨ
+ * SortStats.allocatedBytes()ȡֻͳƵ߳Լڴ棬
+ * ForkJoinPool߳еķ䲻ڡ
+ * 
+ * зʽjava -Xmx4g sorting.SortBenchmark [ģ]
+ * ģĬΪ10^6Ե10^8Ҫ㹻Ķѣ
+ */
+public class SortBenchmark {
+
+	private static final int WARMUP_ROUNDS = 3;			//Ԥȵ
+	private static final int MEASURE_ROUNDS = 5;		//ʱ
+	private static final int MIN_ELEMENTS_PER_ROUND = 1 << 16;	//ÿһٴԪظ
+
+	/**
+	 * intķ
+	 */
+	interface IntSorter {
+		void sort(int[] a);
+	}
+
+	/**
+	 * һβĽ
+	 */
+	static final class Result {
+		final double nsPerElement;		//ÿԪƽõ
+		final double bytesPerElement;	//ÿԪƽֽ޷ͳʱΪNaN
+		final double allocMBPerSec;		//(MB/s)޷ͳʱΪNaN
+		
+		Result(double nsPerElement, double bytesPerElement, double allocMBPerSec){
+			this.nsPerElement = nsPerElement;
+			this.bytesPerElement = bytesPerElement;
+			this.allocMBPerSec = allocMBPerSec;
+		}
+	}
+	
+	/**
+	 * sortersrcõʱ
+	 *
+	 * @param sorter	򷽷
+	 * @param src		ԭʼݣᱻ޸ģ
+	 * @return			һÿԪƽõ
+	 */
+	static double measure(IntSorter sorter, int[] src){
+		return run(sorter, src).nsPerElement;
+	}
+	
+	/**
+	 * sortersrcõʱͷڴ
+	 * 
+	 * ܶʱʱȼʱľȻСÿһݿ
+	 * ʹÿһִԪMIN_ELEMENTS_PER_ROUND
+	 * 
+	 * @param sorter	򷽷
+	 * @param src		ԭʼݣᱻ޸ģ
+	 * @return			һֵĽ
+	 */
+	static Result run(IntSorter sorter, int[] src){
+		int reps = Math.max(1, MIN_ELEMENTS_PER_ROUND / Math.max(1, src.length));
+		int[][] copies = new int[reps][src.length];
+		long best = Long.MAX_VALUE;
+		long bestAllocated = -1;
+
+		for(int round = 0; round < WARMUP_ROUNDS + MEASURE_ROUNDS; round++){
+			for(int r = 0; r < reps; r++)
+				System.arraycopy(src, 0, copies[r], 0, src.length);
+			
+			long allocated = SortStats.allocatedBytes();
+			long start = System.nanoTime();
+			for(int r = 0; r < reps; r++)
+				sorter.sort(copies[r]);
+			long elapsed = System.nanoTime() - start;
+			if(allocated >= 0)
+				allocated = SortStats.allocatedBytes() - allocated;
+
+			if(round >= WARMUP_ROUNDS && elapsed < best){
+				best = elapsed;
+				bestAllocated = allocated;
+			}
+		}
+
+		long elements = (long) reps * Math.max(1, src.length);
+		if(bestAllocated < 0)
+			return new Result((double) best / elements, Double.NaN, Double.NaN);
+		return new Result((double) best / elements, (double) bestAllocated / elements,
+				bestAllocated * 1e9 / Math.max(1, best) / (1 << 20));
+	}
+	
+	/**
+	 * ֻcardinalityֲͬȡֵ飨ظԪغࣩܶ
+	 *
+	 * @param n				ĳ
+	 * @param cardinality	ͬȡֵĸ
+	 * @param seed			
+	 */
+	static int[] fewUnique(int n, int cardinality, long seed){
+		Random random = new Random(seed);
+		int[] a = new int[n];
+		for(int i = 0; i < n; i++)
+			a[i] = random.nextInt(cardinality);
+		return a;
+	}
+
+	/**
+	 * ظԪغܶϣַֻʽĶԱ
+	 */
+	private static void benchPartitionSchemes(){
+		int[] sizes = {100000, 1000000};
+		int[] cardinalities = {2, 16, 256, Integer.MAX_VALUE};
+
+		System.out.println("QuickSort partition schemes on low-cardinality input (ns/element):");
+		System.out.printf("%10s %12s %10s %10s %10s %10s%n",
+				"n", "cardinality", "HOLE", "THREE_WAY", "DUAL_PIVOT", "introSort");
+
+		for(int n : sizes){
+			for(int k : cardinalities){
+				int[] src = fewUnique(n, k, 42);
+
+				double hole = measure(a -> QuickSort.quickSort(a, 0, a.length-1, QuickSort.PartitionScheme.HOLE), src);
+				double threeWay = measure(a -> QuickSort.quickSort(a, 0, a.length-1, QuickSort.PartitionScheme.THREE_WAY), src);
+				double dualPivot = measure(a -> QuickSort.quickSort(a, 0, a.length-1, QuickSort.PartitionScheme.DUAL_PIVOT), src);
+				double intro = measure(a -> QuickSort.introSort(a), src);
+
+				System.out.printf("%10d %12s %10.2f %10.2f %10.2f %10.2f%n", n,
+						k == Integer.MAX_VALUE ? "all" : String.valueOf(k), hole, threeWay, dualPivot, intro);
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * 
+	 * @param n			ĳ
+	 * @param seed		
+	 */
+	static int[] random(int n, long seed){
+		Random random = new Random(seed);
+		int[] a = new int[n];
+		for(int i = 0; i < n; i++)
+			a[i] = random.nextInt();
+		return a;
+	}
+	
+	/**
+	 * ϣеĶԱȣÿֹģ
+	 */
+	private static void benchShellGaps(){
+		int[] sizes = {16, 64, 256, 1024, 10000, 100000, 1000000};
+		ShellSort.GapSequence[] seqs = ShellSort.GapSequence.values();
+		
+		System.out.println("ShellSort gap sequences on random input (ns/element):");
+		System.out.printf("%10s", "n");
+		for(ShellSort.GapSequence seq : seqs)
+			System.out.printf(" %10s", seq);
+		System.out.printf(" %10s%n", "best");
+		
+		for(int n : sizes){
+			int[] src = random(n, 42);
+			ShellSort.GapSequence best = null;
+			double bestTime = Double.MAX_VALUE;
+			
+			System.out.printf("%10d", n);
+			for(ShellSort.GapSequence seq : seqs){
+				double t = measure(a -> ShellSort.shellSort(a, a.length, seq), src);
+				System.out.printf(" %10.2f", t);
+				if(t < bestTime){
+					bestTime = t;
+					best = seq;
+				}
+			}
+			System.out.printf(" %10s%n", best);
+		}
+	}
+	
+	/**
+	 * ݵķֲ
+	 */
+	enum Distribution {
+		RANDOM,			//
+		SORTED,			//Ѿ
+		REVERSED,		//
+		SAWTOOTH,		//ΣԼΪsqrt(n)ɸ
+		FEW_UNIQUE,		//ֻ16ֲͬȡֵ
+		ORGAN_PIPE;		//ܷΣǰһ򣬺һ뽵
+		
+		int[] generate(int n, long seed){
+			if(this == RANDOM)
+				return random(n, seed);
+			if(this == FEW_UNIQUE)
+				return fewUnique(n, 16, seed);
+			
+			int[] a = new int[n];
+			int tooth = Math.max(2, (int) Math.sqrt(n));
+			for(int i = 0; i < n; i++){
+				switch(this){
+				case SORTED:
+					a[i] = i;
+					break;
+				case REVERSED:
+					a[i] = n - i;
+					break;
+				case SAWTOOTH:
+					a[i] = i % tooth;
+					break;
+				default:
+					a[i] = i < n/2 ? i : n - i;
+					break;
+				}
+			}
+			return a;
+		}
+	}
+	
+	/**
+	 * Եһ򷽷
+	 */
+	private static final class Entry {
+		final String name;
+		final IntSorter sorter;
+		final int maxN;			//ֻԲóȵ飨O(N^2)㷨̫
+		
+		Entry(String name, IntSorter sorter, int maxN){
+			this.name = name;
+			this.sorter = sorter;
+			this.maxN = maxN;
+		}
+	}
+	
+	/**
+	 * еint򷽷Arrays.sort()Ϊ
+	 */
+	private static List<Entry> algorithms(){
+		int quadratic = 10000;		//O(N^2)㷨Լϻ˻ͨ
+		List<Entry> list = new ArrayList<Entry>();
+		
+		list.add(new Entry("Arrays.sort", a -> Arrays.sort(a), Integer.MAX_VALUE));
+		list.add(new Entry("bubbleSort1", a -> BubbleSort.bubbleSort1(a, a.length), quadratic));
+		list.add(new Entry("bubbleSort2", a -> BubbleSort.bubbleSort2(a, a.length), quadratic));
+		list.add(new Entry("cocktailSort", a -> BubbleSort.cocktailSort(a, a.length), quadratic));
+		list.add(new Entry("selectSort", a -> SelectSort.selectSort(a, a.length), quadratic));
+		list.add(new Entry("doubleSelectSort", a -> SelectSort.doubleSelectSort(a, a.length), quadratic));
+		list.add(new Entry("insertSort", a -> StraightInsertionSort.insertSort(a, a.length), quadratic));
+		list.add(new Entry("binaryInsertSort", a -> StraightInsertionSort.binaryInsertSort(a, 0, a.length-1), quadratic));
+		list.add(new Entry("shellSort", a -> ShellSort.shellSort(a, a.length), Integer.MAX_VALUE));
+		list.add(new Entry("shellSort2", a -> ShellSort.shellSort2(a, a.length), Integer.MAX_VALUE));
+		list.add(new Entry("shellSort(CIURA)", a -> ShellSort.shellSort(a, a.length, ShellSort.GapSequence.CIURA), Integer.MAX_VALUE));
+		list.add(new Entry("quickSort", a -> QuickSort.quickSort(a, 0, a.length-1), quadratic));
+		list.add(new Entry("threeWayQuickSort", a -> QuickSort.threeWayQuickSort(a, 0, a.length-1), Integer.MAX_VALUE));
+		list.add(new Entry("dualPivotQuickSort", a -> QuickSort.dualPivotQuickSort(a, 0, a.length-1), Integer.MAX_VALUE));
+		list.add(new Entry("introSort", a -> QuickSort.introSort(a), Integer.MAX_VALUE));
+		list.add(new Entry("simdSort", a -> QuickSort.simdSort(a), Integer.MAX_VALUE));
+		list.add(new Entry("parallelQuickSort", a -> QuickSort.parallelQuickSort(a), Integer.MAX_VALUE));
+		list.add(new Entry("mergeSortUp2Down", a -> MergeSort.mergeSortUp2Down(a, 0, a.length-1), Integer.MAX_VALUE));
+		list.add(new Entry("mergeSortDown2Up", a -> MergeSort.mergeSortDown2Up(a), Integer.MAX_VALUE));
+		list.add(new Entry("mergeSort", a -> MergeSort.mergeSort(a), Integer.MAX_VALUE));
+		list.add(new Entry("parallelMergeSort", a -> MergeSort.parallelMergeSort(a), Integer.MAX_VALUE));
+		list.add(new Entry("naturalMergeSort", a -> MergeSort.naturalMergeSort(a), Integer.MAX_VALUE));
+		list.add(new Entry("radixSort", a -> RadixSort.radixSort(a), Integer.MAX_VALUE));
+		list.add(new Entry("parallelRadixSort", a -> ParallelRadixSort.parallelRadixSort(a), Integer.MAX_VALUE));
+		list.add(new Entry("bucketSort", a -> BucketSort.bucketSort(a), Integer.MAX_VALUE));
+		list.add(new Entry("multiBucketSort", a -> BucketSort.multiBucketSort(a), Integer.MAX_VALUE));
+		list.add(new Entry("adaptiveSort", a -> AdaptiveSort.sort(a), Integer.MAX_VALUE));
+		return list;
+	}
+	
+	/**
+	 * Ʋalgorithms()е򷽷jmhĿ¼еJMH׼ʹ
+	 */
+	static IntSorter sorter(String name){
+		for(Entry e : algorithms()){
+			if(e.name.equals(name))
+				return e.sorter;
+		}
+		throw new IllegalArgumentException("unknown algorithm: " + name);
+	}
+	
+	/**
+	 * 򷽷ڸֹģ(10, 100, ..., maxN)͸ֲַϵĶԱȣ
+	 * ÿһڱ֮ǰĽȽ
+	 * 
+	 * @param maxN		鳤
+	 */
+	private static void benchAlgorithms(int maxN){
+		List<Entry> entries = algorithms();
+		
+		System.out.println("All algorithms (ns/element, allocated bytes/element, allocation rate MB/s):");
+		System.out.println("simdSort kernels: " + (IntKernels.INSTANCE.isVectorized() ? "Vector API" : "scalar"));
+		System.out.printf("%-20s %-11s %10s %10s %10s %10s%n", "algorithm", "input", "n", "ns/elem", "B/elem", "MB/s");
+		
+		for(long n = 10; n <= maxN; n *= 10){
+			for(Distribution dist : Distribution.values()){
+				int[] src = dist.generate((int) n, 42);
+				for(Entry e : entries){
+					if(n > e.maxN)
+						continue;
+					Result r = run(e.sorter, src);
+					System.out.printf("%-20s %-11s %10d %10.2f %10.2f %10.1f%n",
+							e.name, dist, n, r.nsPerElement, r.bytesPerElement, r.allocMBPerSec);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * ɻ飺ȰУswapsԪ
+	 * 
+	 * @param n			ĳ
+	 * @param swaps		Ĵ
+	 * @param seed		
+	 */
+	static int[] nearlySorted(int n, int swaps, long seed){
+		Random random = new Random(seed);
+		int[] a = new int[n];
+		for(int i = 0; i < n; i++)
+			a[i] = i;
+		for(int s = 0; s < swaps && n > 1; s++){
+			int i = random.nextInt(n), j = random.nextInt(n);
+			int tmp = a[i];
+			a[i] = a[j];
+			a[j] = tmp;
+		}
+		return a;
+	}
+	
+	/**
+	 * ̵ܶġϣðݡѡĸĽĶԱ
+	 */
+	private static void benchSmallSorts(){
+		int[] sizes = {8, 16, 32, 64, 256};
+		String[] names = {"bubbleSort2", "cocktailSort", "selectSort", "doubleSelect", "insertSort", "binaryInsert"};
+		IntSorter[] sorters = {
+				a -> BubbleSort.bubbleSort2(a, a.length),
+				a -> BubbleSort.cocktailSort(a, a.length),
+				a -> SelectSort.selectSort(a, a.length),
+				a -> SelectSort.doubleSelectSort(a, a.length),
+				a -> StraightInsertionSort.insertSort(a, a.length),
+				a -> StraightInsertionSort.binaryInsertSort(a, 0, a.length-1)
+		};
+		
+		System.out.println("Small sorts on nearly sorted (2 swaps) and random input (ns/element):");
+		System.out.printf("%6s %-8s", "n", "input");
+		for(String name : names)
+			System.out.printf(" %12s", name);
+		System.out.println();
+		
+		for(int n : sizes){
+			int[][] inputs = {nearlySorted(n, 2, 42), random(n, 42)};
+			String[] labels = {"nearly", "random"};
+			for(int t = 0; t < inputs.length; t++){
+				System.out.printf("%6d %-8s", n, labels[t]);
+				for(IntSorter sorter : sorters)
+					System.out.printf(" %12.2f", measure(sorter, inputs[t]));
+				System.out.println();
+			}
+		}
+	}
+	
+	public static void main(String[] args){
+		int maxN = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+		if(maxN < 10 || maxN > 100000000)
+			throw new IllegalArgumentException("max size must be in [10, 10^8]: " + maxN);
+		
+		benchAlgorithms(maxN);
+		benchPartitionSchemes();
+		benchShellGaps();
+		benchSmallSorts();
+	}
+}
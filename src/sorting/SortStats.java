@@ -0,0 +1,289 @@
+package sorting;
+
+import java.lang.management.ManagementFactory;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * ̵ͳƣȽϴԪƶݹȡڴ
+ * 
+ * ĬϹرգֻʱָ-Dsorting.stats=trueŻENABLEDstatic final
+ * رʱ򷽷еcompare()move()ȵñJITжͬ
+ * һgt()lt()Ҳ͵ͬͨıȽϣûκζ⿪
+ * 
+ * ʹ÷
+ * 		SortStats stats = SortStats.record("introSort", a.length, () -> QuickSort.introSort(a));
+ * record()ڵǰִ߳ڼ򷽷ļڷصstatsУ
+ * ͬʱύһJFR¼sorting.SortJDK Flight Recorder¼ʱԿ
+ * ÿһͳ
+ * 
+ * ĿǰУQuickSort.introSort()MergeSort.mergeSort()RadixSort.radixSort()
+ * ShellSort.shellSort(a, n, seq)StraightInsertionSortĲsmallSort()
+ * BubbleSort.cocktailSort()SelectSort.doubleSelectSort()
+ * ֻͳƵ̣߳ForkJoinPool߳еĲ
+ */
+public final class SortStats {
+	
+	/**
+	 * Ƿ
+	 */
+	public static final boolean ENABLED = Boolean.getBoolean("sorting.stats");
+	
+	/**
+	 * ǰ߳ڼ¼ͳƣûʱΪnull
+	 */
+	private static final ThreadLocal<SortStats> CURRENT = new ThreadLocal<SortStats>();
+	
+	private final String algorithm;
+	private final int length;
+	private long comparisons;
+	private long moves;
+	private long swaps;
+	private long passes;
+	private int depth;
+	private int maxDepth;
+	private long allocatedBytes = -1;
+	private long elapsedNanos;
+	
+	private SortStats(String algorithm, int length){
+		this.algorithm = algorithm;
+		this.length = length;
+	}
+	
+	/**
+	 * ڵǰִ߳sortͳĲ
+	 * 
+	 * ENABLEDΪfalseʱֻͳõʱͷڴ棬Ϊ0
+	 * 
+	 * @param algorithm		򷽷
+	 * @param length			ĳ
+	 * @param sort			
+	 */
+	public static SortStats record(String algorithm, int length, Runnable sort){
+		SortStats stats = new SortStats(algorithm, length);
+		SortStats outer = CURRENT.get();
+		SortEvent event = new SortEvent();
+		
+		CURRENT.set(stats);
+		event.begin();
+		long allocated = allocatedBytes();
+		long start = System.nanoTime();
+		try{
+			sort.run();
+		}finally{
+			stats.elapsedNanos = System.nanoTime() - start;
+			if(allocated >= 0)
+				stats.allocatedBytes = allocatedBytes() - allocated;
+			event.end();
+			CURRENT.set(outer);
+		}
+		
+		if(event.shouldCommit()){
+			event.algorithm = algorithm;
+			event.length = length;
+			event.comparisons = stats.comparisons;
+			event.moves = stats.moves;
+			event.swaps = stats.swaps;
+			event.passes = stats.passes;
+			event.maxDepth = stats.maxDepth;
+			event.allocatedBytes = stats.allocatedBytes;
+			event.commit();
+		}
+		return stats;
+	}
+	
+	/**
+	 * صǰ̵߳ĿǰΪֹֽJVM֧ʱ-1
+	 */
+	static long allocatedBytes(){
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if(!(bean instanceof com.sun.management.ThreadMXBean))
+			return -1;
+		com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+		if(!sunBean.isThreadAllocatedMemoryEnabled())
+			return -1;
+		return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+	
+	/*
+	 * ǹ򷽷õļENABLEDΪfalseʱǿղ
+	 */
+	
+	private static SortStats current(){
+		return CURRENT.get();
+	}
+	
+	/**
+	 * Ƚx > yһαȽ
+	 */
+	static boolean gt(int x, int y){
+		compare(1);
+		return x > y;
+	}
+	
+	/**
+	 * Ƚx < yһαȽ
+	 */
+	static boolean lt(int x, int y){
+		compare(1);
+		return x < y;
+	}
+	
+	static void compare(long n){
+		if(ENABLED){
+			SortStats s = current();
+			if(s != null)
+				s.comparisons += n;
+		}
+	}
+	
+	static void move(long n){
+		if(ENABLED){
+			SortStats s = current();
+			if(s != null)
+				s.moves += n;
+		}
+	}
+	
+	static void swap(){
+		if(ENABLED){
+			SortStats s = current();
+			if(s != null)
+				s.swaps++;
+		}
+	}
+	
+	static void pass(){
+		if(ENABLED){
+			SortStats s = current();
+			if(s != null)
+				s.passes++;
+		}
+	}
+	
+	/**
+	 * һݹ
+	 */
+	static void enter(){
+		if(ENABLED){
+			SortStats s = current();
+			if(s != null && ++s.depth > s.maxDepth)
+				s.maxDepth = s.depth;
+		}
+	}
+	
+	/**
+	 * ˳һݹ
+	 */
+	static void exit(){
+		if(ENABLED){
+			SortStats s = current();
+			if(s != null)
+				s.depth--;
+		}
+	}
+	
+	public String getAlgorithm(){
+		return algorithm;
+	}
+	
+	public int getLength(){
+		return length;
+	}
+	
+	public long getComparisons(){
+		return comparisons;
+	}
+	
+	public long getMoves(){
+		return moves;
+	}
+	
+	public long getSwaps(){
+		return swaps;
+	}
+	
+	public long getPasses(){
+		return passes;
+	}
+	
+	public int getMaxDepth(){
+		return maxDepth;
+	}
+	
+	/**
+	 * еǰ̷ֽ߳޷ͳʱΪ-1
+	 */
+	public long getAllocatedBytes(){
+		return allocatedBytes;
+	}
+	
+	public long getElapsedNanos(){
+		return elapsedNanos;
+	}
+	
+	@Override
+	public String toString(){
+		return algorithm + "[n=" + length + ", comparisons=" + comparisons + ", moves=" + moves
+				+ ", swaps=" + swaps + ", passes=" + passes + ", maxDepth=" + maxDepth
+				+ ", allocatedBytes=" + allocatedBytes + ", elapsedNanos=" + elapsedNanos + "]";
+	}
+	
+	/**
+	 * ÿrecord()ύJFR¼
+	 */
+	@Name("sorting.Sort")
+	@Label("Sort")
+	@Category("Sorting")
+	@Description("One call of a sorting algorithm with its operation counts")
+	static final class SortEvent extends Event {
+		@Label("Algorithm")
+		String algorithm;
+		
+		@Label("Length")
+		int length;
+		
+		@Label("Comparisons")
+		long comparisons;
+		
+		@Label("Moves")
+		long moves;
+		
+		@Label("Swaps")
+		long swaps;
+		
+		@Label("Passes")
+		long passes;
+		
+		@Label("Max Recursion Depth")
+		int maxDepth;
+		
+		@Label("Allocated Bytes")
+		long allocatedBytes;
+	}
+	
+	public static void main(String[] args){
+		if(!ENABLED)
+			System.out.println("run with -Dsorting.stats=true to enable the counters");
+		
+		int[] src = SortBenchmark.random(100000, 42);
+		int[][] copies = new int[7][];
+		for(int i = 0; i < copies.length; i++)
+			copies[i] = src.clone();
+		
+		System.out.println(record("introSort", src.length, () -> QuickSort.introSort(copies[0])));
+		System.out.println(record("mergeSort", src.length, () -> MergeSort.mergeSort(copies[1])));
+		System.out.println(record("radixSort", src.length, () -> RadixSort.radixSort(copies[2])));
+		System.out.println(record("shellSort(CIURA)", src.length,
+				() -> ShellSort.shellSort(copies[3], copies[3].length, ShellSort.GapSequence.CIURA)));
+		
+		int n = 2000;
+		System.out.println(record("insertSort", n, () -> StraightInsertionSort.insertSort(copies[4], 0, n-1)));
+		System.out.println(record("cocktailSort", n, () -> BubbleSort.cocktailSort(copies[5], n)));
+		System.out.println(record("doubleSelectSort", n, () -> SelectSort.doubleSelectSort(copies[6], n)));
+	}
+}
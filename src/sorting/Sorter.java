@@ -0,0 +1,326 @@
+package sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * ͳһ
+ * 
+ * иĲͳһеҪ⴫鳤nеʹñ
+ * [left, right]Ҷֻ֧int飻SorterǰװͳһĽӿڣ
+ * 1sort(a)sort(a, from, to)԰뿪[from, to)
+ * 2int[]long[]double[]רŵʵ֣ᷢװ䣻
+ * 3ͨComparatorȽϣȶģ
+ * 4ʹһ㷨ɹʱAlgorithm㷨ʱôҪĶ
+ * 
+ * ÿ㷨иԪ͵ʵ֣
+ * - int[]֧е㷨ֻܶa[0, n)㷨BUBBLESELECTSHELL䲻
+ * 		0ʼʱRADIXAUTO䲻ʱȰ俽źٿȥ
+ * - long[]double[]RADIXʹRadixSortQUICKʹArrays.sort()JDK˫׼ֵ
+ * 		򣩣㷨ûԪ͵ʵ֣׳UnsupportedOperationException
+ * 		ĵػһ㷨ȶԡڴ䶼ܲͬ
+ * - 飺INSERTIONʹöֲ㷨ʹȶĹ鲢
+ */
+public class Sorter {
+	
+	/**
+	 * ɹѡ㷨
+	 */
+	public enum Algorithm {
+		/** ˫ðBubbleSort.cocktailSort */
+		BUBBLE,
+		/** ѡSelectSort.selectSort */
+		SELECT,
+		/** ֲStraightInsertionSort.binaryInsertSort */
+		INSERTION,
+		/** ϣShellSortCiuraУ */
+		SHELL,
+		/** ʡQuickSort.introSort */
+		QUICK,
+		/** 鲢MergeSort.mergeSortUp2Downȶ */
+		MERGE,
+		/** RadixSortȶ */
+		RADIX,
+		/** ݳԶѡAdaptiveSort */
+		AUTO
+	}
+	
+	private final Algorithm algorithm;
+	
+	/**
+	 * ʹĬ㷨ʡ
+	 */
+	public Sorter(){
+		this(Algorithm.QUICK);
+	}
+	
+	/**
+	 * @param algorithm 	ʹõ㷨
+	 */
+	public Sorter(Algorithm algorithm){
+		if(algorithm == null)
+			throw new IllegalArgumentException("algorithm is null");
+		this.algorithm = algorithm;
+	}
+	
+	public Algorithm getAlgorithm(){
+		return algorithm;
+	}
+	
+	/**
+	 * int
+	 */
+	public void sort(int[] a){
+		sort(a, 0, a.length);
+	}
+	
+	/**
+	 * inta[from, to)
+	 * 
+	 * @param a			
+	 * @param from		ʼλã
+	 * @param to			λã
+	 */
+	public void sort(int[] a, int from, int to){
+		rangeCheck(a.length, from, to);
+		if(to - from < 2)
+			return;
+		
+		switch(algorithm){
+		case INSERTION:
+			StraightInsertionSort.binaryInsertSort(a, from, to - 1);
+			break;
+		case QUICK:
+			QuickSort.introSort(a, from, to - 1);
+			break;
+		case MERGE:
+			MergeSort.mergeSortUp2Down(a, from, to - 1);
+			break;
+		default:
+			//㷨ֻܶa[0, n)RADIXAUTOֻܶ
+			if(from == 0 && (to == a.length || (algorithm != Algorithm.RADIX && algorithm != Algorithm.AUTO))){
+				sortPrefix(a, to);
+			}else{
+				int[] range = Arrays.copyOfRange(a, from, to);
+				sortPrefix(range, range.length);
+				System.arraycopy(range, 0, a, from, range.length);
+			}
+			break;
+		}
+	}
+	
+	/**
+	 * a[0, n)ֻ֧ʽ㷨
+	 */
+	private void sortPrefix(int[] a, int n){
+		switch(algorithm){
+		case BUBBLE:
+			BubbleSort.cocktailSort(a, n);
+			break;
+		case SELECT:
+			SelectSort.selectSort(a, n);
+			break;
+		case SHELL:
+			ShellSort.shellSort(a, n, ShellSort.GapSequence.CIURA);
+			break;
+		case RADIX:
+			RadixSort.radixSort(a);
+			break;
+		case AUTO:
+			AdaptiveSort.sort(a);
+			break;
+		default:
+			throw new IllegalStateException("unexpected algorithm: " + algorithm);
+		}
+	}
+	
+	/**
+	 * long
+	 * 
+	 * @throws UnsupportedOperationException	㷨RADIXQUICK
+	 */
+	public void sort(long[] a){
+		sort(a, 0, a.length);
+	}
+	
+	/**
+	 * longa[from, to)
+	 * 
+	 * @throws UnsupportedOperationException	㷨RADIXQUICK
+	 */
+	public void sort(long[] a, int from, int to){
+		rangeCheck(a.length, from, to);
+		if(algorithm != Algorithm.RADIX && algorithm != Algorithm.QUICK)
+			throw unsupported("long[]");
+		if(to - from < 2)
+			return;
+		
+		if(algorithm == Algorithm.RADIX){
+			if(from == 0 && to == a.length){
+				RadixSort.radixSort(a);
+			}else{
+				long[] range = Arrays.copyOfRange(a, from, to);
+				RadixSort.radixSort(range);
+				System.arraycopy(range, 0, a, from, range.length);
+			}
+		}else{
+			Arrays.sort(a, from, to);
+		}
+	}
+	
+	/**
+	 * double
+	 * 
+	 * @throws UnsupportedOperationException	㷨RADIXQUICK
+	 */
+	public void sort(double[] a){
+		sort(a, 0, a.length);
+	}
+	
+	/**
+	 * doublea[from, to)-0.00.0֮ǰNaN
+	 * 
+	 * @throws UnsupportedOperationException	㷨RADIXQUICK
+	 */
+	public void sort(double[] a, int from, int to){
+		rangeCheck(a.length, from, to);
+		if(algorithm != Algorithm.RADIX && algorithm != Algorithm.QUICK)
+			throw unsupported("double[]");
+		if(to - from < 2)
+			return;
+		
+		if(algorithm == Algorithm.RADIX){
+			if(from == 0 && to == a.length){
+				RadixSort.radixSort(a);
+			}else{
+				double[] range = Arrays.copyOfRange(a, from, to);
+				RadixSort.radixSort(range);
+				System.arraycopy(range, 0, a, from, range.length);
+			}
+		}else{
+			Arrays.sort(a, from, to);
+		}
+	}
+	
+	/**
+	 * ȶ
+	 */
+	public <T> void sort(T[] a, Comparator<? super T> c){
+		sort(a, 0, a.length, c);
+	}
+	
+	/**
+	 * Զa[from, to)ȶ
+	 * 
+	 * @param a			
+	 * @param from		ʼλã
+	 * @param to			λã
+	 * @param c			Ƚ
+	 */
+	public <T> void sort(T[] a, int from, int to, Comparator<? super T> c){
+		rangeCheck(a.length, from, to);
+		if(to - from < 2)
+			return;
+		
+		if(algorithm == Algorithm.INSERTION || to - from <= StraightInsertionSort.SMALL_SORT_THRESHOLD){
+			binaryInsertSort(a, from, to, c);
+			return;
+		}
+		
+		//MergeSort.mergeSort()ͬġƹҡ鲢abuf䵱ԴĿ
+		T[] buf = Arrays.copyOfRange(a, from, to);
+		mergeSortInto(buf, a, 0, from, to - from, c);
+	}
+	
+	/**
+	 * src[srcFrom, srcFrom+len)źŵdst[dstFrom, dstFrom+len)У
+	 * ʱͬsrcᱻʱı
+	 */
+	private static <T> void mergeSortInto(T[] src, T[] dst, int srcFrom, int dstFrom, int len, Comparator<? super T> c){
+		if(len <= StraightInsertionSort.SMALL_SORT_THRESHOLD){
+			binaryInsertSort(dst, dstFrom, dstFrom + len, c);
+			return;
+		}
+		
+		int half = len >>> 1;
+		
+		//źsrcУ߽ɫԵ
+		mergeSortInto(dst, src, dstFrom, srcFrom, half, c);
+		mergeSortInto(dst, src, dstFrom + half, srcFrom + half, len - half, c);
+		
+		//srcеϲdstУʱȡߵԪأ֤ȶ
+		int i = srcFrom, mid = srcFrom + half, end = srcFrom + len;
+		int j = mid;
+		for(int k = dstFrom; k < dstFrom + len; k++){
+			if(j >= end || (i < mid && c.compare(src[i], src[j]) <= 0))
+				dst[k] = src[i++];
+			else
+				dst[k] = src[j++];
+		}
+	}
+	
+	/**
+	 * a[from, to)жֲȶ
+	 */
+	private static <T> void binaryInsertSort(T[] a, int from, int to, Comparator<? super T> c){
+		for(int i = from + 1; i < to; i++){
+			T temp = a[i];
+			
+			//a[from, i)ҳһtempλ
+			int lo = from, hi = i;
+			while(lo < hi){
+				int mid = (lo + hi) >>> 1;
+				if(c.compare(a[mid], temp) <= 0)
+					lo = mid + 1;
+				else
+					hi = mid;
+			}
+			
+			System.arraycopy(a, lo, a, lo + 1, i - lo);
+			a[lo] = temp;
+		}
+	}
+	
+	/**
+	 * ǰ㷨ûtypeԪ͵ʵ
+	 */
+	private UnsupportedOperationException unsupported(String type){
+		return new UnsupportedOperationException(algorithm + " is not supported for " + type);
+	}
+	
+	/**
+	 * [from, to)ǷǳΪlengthеĺϷ
+	 */
+	private static void rangeCheck(int length, int from, int to){
+		if(from > to)
+			throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+		if(from < 0)
+			throw new ArrayIndexOutOfBoundsException(from);
+		if(to > length)
+			throw new ArrayIndexOutOfBoundsException(to);
+	}
+	
+	public static void main(String[] args){
+		int i;
+		int[] a = {5, 3, 7, 9, 1, 4, 2, 6, 8};
+		
+		System.out.println("before sort:");
+		for(i = 0; i < a.length; i++)
+			System.out.print(a[i] + "\t");
+		System.out.println("");
+		
+		//ֻ±[2, 7)֮Ԫ
+		new Sorter(Algorithm.SHELL).sort(a, 2, 7);
+		
+		System.out.println("after sort [2, 7):");
+		for(i = 0; i < a.length; i++)
+			System.out.print(a[i] + "\t");
+		System.out.println("");
+		
+		new Sorter().sort(a);
+		
+		System.out.println("after sort:");
+		for(i = 0; i < a.length; i++)
+			System.out.print(a[i] + "\t");
+	}
+}
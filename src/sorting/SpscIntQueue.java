@@ -0,0 +1,270 @@
+package sorting;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * ߡ(SPSC, Single Producer Single Consumer)нint
+ * 
+ * ArrayQueueûκֻͬһ߳ʹãһ߳ӡһ
+ * ߳ͬʱӣװ䣺
+ * 1ĳ2ݣtailheadֻlongţ鳤ȡģ
+ *    maskλ룩õʵλã
+ * 2tailֻдheadֻдȰԪд飬
+ *    setRelease()tailgetAcquire()µtail֮ǰдԪ
+ *    һɼʱԪغsetRelease()headgetAcquire()
+ *    headŻḲЩλãҪvolatileдȫϣҲҪCAS
+ * 3߻һζhead(headCache)ֻаֵ˲¶head
+ *    ߶tailͬ󲿷ֲԷڵĻУ
+ * 4tailheadCacheheadtailCacheֱڲͬĻУǰõlong
+ *    ֶ䣨ڸУJVMѸֶλţ̻߳
+ *    ʹԷĻʧЧα
+ * 5offer(int[], ...)drainTo(int[], ...)ӡӣֻһtailhead
+ * 
+ * ֻһ̵߳offer()һ̵߳poll()drainTo()߻ʱ
+ * ȷ
+ */
+public final class SpscIntQueue extends SpscPad3 {
+	
+	private static final VarHandle TAIL;
+	private static final VarHandle HEAD;
+	
+	static {
+		try{
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			TAIL = lookup.findVarHandle(SpscTail.class, "tail", long.class);
+			HEAD = lookup.findVarHandle(SpscHead.class, "head", long.class);
+		}catch(ReflectiveOperationException e){
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+	
+	/**
+	 * @param sz		ȡΪ2
+	 */
+	public SpscIntQueue(int sz){
+		super(sz);
+	}
+	
+	/**
+	 * valӵеĩβֻߵã
+	 * 
+	 * @return		ʱfalse
+	 */
+	public boolean offer(int val){
+		long t = tail;
+		if(t - headCache >= buffer.length){
+			headCache = (long) HEAD.getAcquire(this);
+			if(t - headCache >= buffer.length)
+				return false;
+		}
+		buffer[(int) t & mask] = val;
+		TAIL.setRelease(this, t + 1);
+		return true;
+	}
+	
+	/**
+	 * src[from, from+len)оܶԪӵеĩβֻһ
+	 * ֻߵã
+	 * 
+	 * @return		ʵӵԪظʱΪ0
+	 */
+	public int offer(int[] src, int from, int len){
+		long t = tail;
+		int capacity = buffer.length;
+		if(t - headCache > capacity - len)
+			headCache = (long) HEAD.getAcquire(this);
+		int n = (int) Math.min(len, capacity - (t - headCache));
+		if(n <= 0)
+			return 0;
+		
+		//οtailĩβٴ鿪ͷʼ
+		int i = (int) t & mask;
+		int first = Math.min(n, capacity - i);
+		System.arraycopy(src, from, buffer, i, first);
+		System.arraycopy(src, from + first, buffer, 0, n - first);
+		TAIL.setRelease(this, t + n);
+		return n;
+	}
+	
+	/**
+	 * ضԪֵɾԪأֻߵã
+	 */
+	public int poll(){
+		long h = head;
+		if(h >= tailCache){
+			tailCache = (long) TAIL.getAcquire(this);
+			if(h >= tailCache)
+				throw new IllegalStateException("queue is empty");
+		}
+		int ret = buffer[(int) h & mask];
+		HEAD.setRelease(this, h + 1);
+		return ret;
+	}
+	
+	/**
+	 * ˳ȡ׵ԪطŵdstУֱdst˻߶пˣֻߵã
+	 * 
+	 * @return		ȡԪظ
+	 */
+	public int drainTo(int[] dst){
+		return drainTo(dst, 0, dst.length);
+	}
+	
+	/**
+	 * ˳ȡlenԪطŵdst[from...]Уֻһhead
+	 * ֻߵã
+	 * 
+	 * @return		ȡԪظ
+	 */
+	public int drainTo(int[] dst, int from, int len){
+		long h = head;
+		if(tailCache - h < len)
+			tailCache = (long) TAIL.getAcquire(this);
+		int n = (int) Math.min(len, tailCache - h);
+		if(n <= 0)
+			return 0;
+		
+		int i = (int) h & mask;
+		int first = Math.min(n, buffer.length - i);
+		System.arraycopy(buffer, i, dst, from, first);
+		System.arraycopy(buffer, 0, dst, from + first, n - first);
+		HEAD.setRelease(this, h + n);
+		return n;
+	}
+	
+	/**
+	 * ضǷΪգߵʱfalse֮poll()һɹ
+	 */
+	public boolean isEmpty(){
+		return size() == 0;
+	}
+	
+	/**
+	 * ضеĴСһ߳ڲʱֻһֵ
+	 */
+	public int size(){
+		long h = (long) HEAD.getAcquire(this);
+		long t = (long) TAIL.getAcquire(this);
+		return (int) Math.max(0, t - h);
+	}
+	
+	public int capacity(){
+		return buffer.length;
+	}
+	
+	public static void main(String[] args) throws InterruptedException{
+		SpscIntQueue queue = new SpscIntQueue(1 << 14);
+		int count = 100000000;
+		int batch = 256;
+		
+		//̳߳ط0, 1, 2, ...߼˳ͣ
+		//ʱóCPUֻһCPUʱҲ
+		Thread producer = new Thread(() -> {
+			int[] buf = new int[batch];
+			int next = 0;
+			while(next < count){
+				int len = Math.min(batch, count - next);
+				for(int i = 0; i < len; i++)
+					buf[i] = next + i;
+				int off = 0;
+				while(off < len){
+					int n = queue.offer(buf, off, len - off);
+					if(n == 0)
+						Thread.yield();
+					off += n;
+				}
+				next += len;
+			}
+		}, "producer");
+		
+		long start = System.nanoTime();
+		producer.start();
+		
+		int[] buf = new int[batch];
+		long sum = 0;
+		int expected = 0;
+		while(expected < count){
+			int n = queue.drainTo(buf);
+			if(n == 0){
+				Thread.yield();
+				continue;
+			}
+			for(int i = 0; i < n; i++){
+				if(buf[i] != expected++)
+					throw new AssertionError("out of order: " + buf[i]);
+				sum += buf[i];
+			}
+		}
+		producer.join();
+		long nanos = System.nanoTime() - start;
+		
+		System.out.println(count + "Ԫ, sum=" + sum + ", "
+				+ String.format("%.1f", count * 1000.0 / nanos) + " M ops/s");
+	}
+}
+
+/*
+ * SpscIntQueueֶΣ̳йϵУ
+ *  - buffer/mask -  - tail/headCacheߣ -  - head/tailCacheߣ - 
+ * ÿ7long56ֽڣڵֶΣ̸֤߳дֶβͬһ64ֽڵĻ
+ */
+
+abstract class SpscPad0 {
+	long p00, p01, p02, p03, p04, p05, p06;
+}
+
+abstract class SpscBuffer extends SpscPad0 {
+	final int[] buffer;
+	final int mask;
+	
+	SpscBuffer(int sz){
+		if(sz < 1 || sz > 1 << 30)
+			throw new IllegalArgumentException("illegal capacity: " + sz);
+		int capacity = sz == 1 ? 1 : Integer.highestOneBit(sz - 1) << 1;
+		buffer = new int[capacity];
+		mask = capacity - 1;
+	}
+}
+
+abstract class SpscPad1 extends SpscBuffer {
+	long p10, p11, p12, p13, p14, p15, p16;
+	
+	SpscPad1(int sz){
+		super(sz);
+	}
+}
+
+abstract class SpscTail extends SpscPad1 {
+	long tail;			//һԪصţֻд
+	long headCache;		//һζhead
+	
+	SpscTail(int sz){
+		super(sz);
+	}
+}
+
+abstract class SpscPad2 extends SpscTail {
+	long p20, p21, p22, p23, p24, p25, p26;
+	
+	SpscPad2(int sz){
+		super(sz);
+	}
+}
+
+abstract class SpscHead extends SpscPad2 {
+	long head;			//Ԫصţֻд
+	long tailCache;		//һζtail
+	
+	SpscHead(int sz){
+		super(sz);
+	}
+}
+
+abstract class SpscPad3 extends SpscHead {
+	long p30, p31, p32, p33, p34, p35, p36;
+	
+	SpscPad3(int sz){
+		super(sz);
+	}
+}
@@ -1,5 +1,8 @@
 package sorting;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * ֱӲ
  * 
@@ -58,6 +61,150 @@ public class StraightInsertionSort {
 		}
 	}
 	
+	/**
+	 * ֱӲֻa[left...right]һΣ
+	 * 
+	 * ԪֻԽԪأȵԪرԭȺa[left...right]
+	 * ѻÿԪֻȽһΣʱ临ӶȽӽO(N)
+	 * 
+	 * @param a 		
+	 * @param left		ʼλ
+	 * @param right	Ľλ
+	 */
+	public static void insertSort(int[] a, int left, int right){
+		for(int i = left + 1; i <= right; i++){
+			int temp = a[i];
+			int j = i - 1;
+			
+			//бtempԪضƶһλ
+			while(j >= left && SortStats.gt(a[j], temp)){
+				a[j+1] = a[j];
+				j--;
+			}
+			a[j+1] = temp;
+			SortStats.move(i - j);
+		}
+	}
+	
+	/**
+	 * Сģֵ㷨еĳȲֵʱͳһsmallSort()
+	 */
+	public static final int SMALL_SORT_THRESHOLD = 16;
+	
+	/**
+	 * 磺NETWORKS[n]ǶnԪıȽÿ(i, j)Ϊһ飬
+	 * ʾȽa[i]a[j]a[i]>a[j]򽻻
+	 */
+	private static final int[][] NETWORKS = buildNetworks(SMALL_SORT_THRESHOLD);
+	
+	/**
+	 * ֲ
+	 * 
+	 * ֱӲȽϡѰҲλãֲ
+	 * ֲҳλãȽϴΪO(lgN)System.arraycopy()Ѳλ
+	 * ֮ԪһλԪƶĴ䣬鿽ֵöࣻ
+	 * λȡԪ֮ԶֲȻȶ
+	 * 
+	 * @param a 		
+	 * @param left		ʼλ
+	 * @param right	Ľλ
+	 */
+	public static void binaryInsertSort(int[] a, int left, int right){
+		for(int i = left + 1; i <= right; i++){
+			int temp = a[i];
+			
+			//ѾСһԪأҪƶ
+			if(!SortStats.gt(a[i-1], temp))
+				continue;
+			
+			//a[left...i-1]ҳһtempλ
+			int lo = left, hi = i - 1;
+			while(lo < hi){
+				int mid = (lo + hi) >>> 1;
+				if(!SortStats.gt(a[mid], temp))
+					lo = mid + 1;
+				else
+					hi = mid;
+			}
+			
+			System.arraycopy(a, lo, a, lo + 1, i - lo);
+			a[lo] = temp;
+			SortStats.move(i - lo + 1);
+		}
+	}
+	
+	/**
+	 * Сģ򣬹QuickSortMergeSortShellSortкܶʱ
+	 * 
+	 * ȲSMALL_SORT_THRESHOLDʱʹ磺ȽϵĴǹ̶ģ޹أ
+	 * ÿαȽϽдȡСֵֵʽûԤķ֧
+	 * ʹöֲ
+	 * ע粻ȶģintû
+	 * 
+	 * @param a 		
+	 * @param left		ʼλ
+	 * @param right	Ľλ
+	 */
+	public static void smallSort(int[] a, int left, int right){
+		int n = right - left + 1;
+		if(n < 2)
+			return;
+		
+		if(n > SMALL_SORT_THRESHOLD){
+			binaryInsertSort(a, left, right);
+			return;
+		}
+		
+		int[] network = NETWORKS[n];
+		for(int k = 0; k < network.length; k += 2){
+			int i = left + network[k];
+			int j = left + network[k+1];
+			int x = a[i], y = a[j];
+			a[i] = Math.min(x, y);
+			a[j] = Math.max(x, y);
+		}
+		SortStats.compare(network.length / 2);
+		SortStats.move(network.length);
+	}
+	
+	/**
+	 * Batcherż鲢磬ΪÿһnüӦ磺
+	 * ԰ѲڵԪؿ+ޣ漰ǵıȽԶύֱȥ
+	 */
+	private static int[][] buildNetworks(int max){
+		int size = Integer.highestOneBit(max - 1) << 1;		//Сmax2
+		List<Integer> pairs = new ArrayList<Integer>();
+		
+		for(int p = 1; p < size; p <<= 1){
+			for(int k = p; k >= 1; k >>= 1){
+				for(int j = k % p; j + k < size; j += 2*k){
+					for(int i = 0; i < k && i + j + k < size; i++){
+						//ֻȽͬһΪ2pĹ鲢Ԫ
+						if((i + j) / (2*p) == (i + j + k) / (2*p)){
+							pairs.add(i + j);
+							pairs.add(i + j + k);
+						}
+					}
+				}
+			}
+		}
+		
+		int[][] networks = new int[max + 1][];
+		for(int n = 0; n <= max; n++){
+			List<Integer> kept = new ArrayList<Integer>();
+			for(int k = 0; k < pairs.size(); k += 2){
+				if(pairs.get(k+1) < n){
+					kept.add(pairs.get(k));
+					kept.add(pairs.get(k+1));
+				}
+			}
+			networks[n] = new int[kept.size()];
+			for(int k = 0; k < kept.size(); k++)
+				networks[n][k] = kept.get(k);
+		}
+		return networks;
+	}
+	
 	public static void main(String[] args){
 		int i;
 		int[] a = {5, 3, 7, 9, 1, 4, 2, 6, 8};
@@ -0,0 +1,161 @@
+package sorting;
+
+/**
+ * ʽTop-KڲϵУʼձk
+ * 
+ * һΪkСѱ浱ǰkѶСǸż
+ * 1δʱֱӲУϵ
+ * 2ʱڶѶ滻ѶµֱӶ
+ * 
+ * ÿһO(lgk)ĵNݵʱ临ӶΪO(N*lgk)ռΪO(k)
+ * ȰNȫźҪöࣻ
+ * ѵϡµ㷨heaps.MaxHeapͬһԪصΪ0ֻ
+ * Сѣֱʹint飬Ҫװ
+ */
+public class TopK {
+	
+	private final int[] mHeap;		//С
+	private int mSize;				//Ԫصĸ
+	
+	/**
+	 * @param k 	ҪԪظ
+	 */
+	public TopK(int k){
+		if(k < 1)
+			throw new IllegalArgumentException("k must be positive: " + k);
+		mHeap = new int[k];
+		mSize = 0;
+	}
+	
+	/**
+	 * һ
+	 */
+	public void add(int val){
+		if(mSize < mHeap.length){
+			mHeap[mSize] = val;
+			filterup(mSize++);
+		}else if(val > mHeap[0]){
+			mHeap[0] = val;
+			filterdown(0, mSize-1);
+		}
+	}
+	
+	/**
+	 * aе
+	 */
+	public void addAll(int[] a){
+		for(int i = 0; i < a.length; i++)
+			add(a[i]);
+	}
+	
+	/**
+	 * صǰݸk
+	 */
+	public int size(){
+		return mSize;
+	}
+	
+	/**
+	 * صǰСǸTop-Kż
+	 */
+	public int min(){
+		if(mSize == 0)
+			throw new IllegalStateException("TopK is empty");
+		return mHeap[0];
+	}
+	
+	/**
+	 * صǰݣӴС˳УӰѱ
+	 */
+	public int[] toSortedArray(){
+		int[] result = new int[mSize];
+		System.arraycopy(mHeap, 0, result, 0, mSize);
+		QuickSort.introSort(result);
+		
+		//תɴӴС
+		for(int i = 0, j = mSize - 1; i < j; i++, j--){
+			int tmp = result[i];
+			result[i] = result[j];
+			result[j] = tmp;
+		}
+		return result;
+	}
+	
+	/**
+	 * akӴС˳Уaᱻ޸ģ
+	 * 
+	 * @param a		
+	 * @param k		Ҫĸa.lengthʱȫ
+	 */
+	public static int[] topK(int[] a, int k){
+		TopK top = new TopK(Math.max(1, Math.min(k, a.length)));
+		if(k > 0)
+			top.addAll(a);
+		return top.toSortedArray();
+	}
+	
+	/**
+	 * Сѵµ㷨
+	 * 
+	 * @param start  		µڵʼλ
+	 * @param end 		ΧһΪһԪص
+	 */
+	private void filterdown(int start, int end){
+		int current = start;					//ǰڵλ
+		int left = 2*current + 1;			//ӵλ
+		int tmp = mHeap[current];			//ǰڵļֵ
+		
+		while(left <= end){
+			//leftӣleft+1ҺӣѡС
+			if(left < end && mHeap[left+1] < mHeap[left])
+				left++;
+			
+			if(tmp <= mHeap[left])
+				break;									//
+			
+			mHeap[current] = mHeap[left];			//Сĺϵǰڵλ
+			current = left;
+			left = 2*left + 1;
+		}
+		
+		mHeap[current] = tmp;
+	}
+	
+	/**
+	 * Сѵϵ㷨startʼֱ0
+	 * 
+	 * @param start  	ϵڵĽڵʼλãһΪһԪص
+	 */
+	private void filterup(int start){
+		int current = start;
+		int parent = (current-1)/2;
+		int tmp = mHeap[current];
+		
+		while(current > 0){
+			if(mHeap[parent] <= tmp)
+				break;									//ڵ㲻ڱڽڵ㣬
+			
+			mHeap[current] = mHeap[parent];
+			current = parent;
+			parent = (parent-1)/2;
+		}
+		
+		mHeap[current] = tmp;
+	}
+	
+	public static void main(String[] args){
+		int i;
+		int[] a = {5, 3, 7, 9, 1, 4, 2, 6, 8};
+		
+		System.out.println("array:");
+		for(i = 0; i < a.length; i++)
+			System.out.print(a[i] + "\t");
+		System.out.println("");
+		
+		int[] top = topK(a, 3);
+		
+		System.out.println("top 3:");
+		for(i = 0; i < top.length; i++)
+			System.out.print(top[i] + "\t");
+	}
+}